@@ -21,6 +21,9 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // EventSource cannot set headers; this path alone accepts a stream token as the access_token parameter
+    private static final String STREAM_PATH = "/api/v1/stock/stream";
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
 
@@ -31,21 +34,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
+        final String streamToken = request.getRequestURI().equals(request.getContextPath() + STREAM_PATH)
+                ? request.getParameter("access_token")
+                : null;
         final String jwt;
         final String userEmail;
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            jwt = authHeader.substring(7);
+        } else if (streamToken != null) {
+            jwt = streamToken;
+        } else {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
         userEmail = jwtService.extractUsername(jwt);
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            boolean valid = jwt.equals(streamToken)
+                    ? jwtService.isStreamTokenValid(jwt, userDetails)
+                    : jwtService.isTokenValid(jwt, userDetails);
+            if (valid) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -0,0 +1,25 @@
+package com.modus.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// Tests switch the scheduled jobs off so they cannot run statements of their own mid-test. The jobs share a pool,
+// so a long run (the outbox poller draining a backlog, a snapshot prune) does not hold back all the others.
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "application.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${application.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        return scheduler;
+    }
+}
@@ -1,6 +1,7 @@
 package com.modus.backend.config;
 
 import com.modus.backend.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,6 +39,9 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // The request was authorized on its REQUEST dispatch; the JWT filter runs once per request,
+                        // so an SSE stream's ASYNC re-dispatch on completion or timeout would otherwise be anonymous
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/v1/auth/**", "/v3/api-docs/**", "/swagger-ui/**", "/actuator/**", "/error").permitAll()
                         .anyRequest().authenticated()
                 )
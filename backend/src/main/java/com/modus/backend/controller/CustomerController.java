@@ -1,5 +1,7 @@
 package com.modus.backend.controller;
 
+import com.modus.backend.domain.entity.CustomerType;
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.CustomerRequest;
 import com.modus.backend.dto.CustomerResponse;
 import com.modus.backend.service.CustomerService;
@@ -8,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,8 +20,13 @@ public class CustomerController {
     private final CustomerService customerService;
 
     @GetMapping
-    public List<CustomerResponse> getAllCustomers() {
-        return customerService.getAllCustomers();
+    public CursorPage<CustomerResponse> getCustomers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) CustomerType type,
+            @RequestParam(defaultValue = "name") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return customerService.getCustomers(q, type, sort, cursor, limit);
     }
 
     @GetMapping("/{id}")
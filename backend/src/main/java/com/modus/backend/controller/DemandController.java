@@ -1,14 +1,16 @@
 package com.modus.backend.controller;
 
 import com.modus.backend.domain.entity.DemandStatus;
+import com.modus.backend.domain.entity.Priority;
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.DemandDTO;
+import com.modus.backend.service.DemandConversionService;
 import com.modus.backend.service.DemandService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -17,10 +19,27 @@ import java.util.UUID;
 public class DemandController {
 
     private final DemandService demandService;
+    private final DemandConversionService demandConversionService;
 
     @GetMapping
-    public List<DemandDTO.Response> getAllDemands() {
-        return demandService.getAllDemands();
+    public CursorPage<DemandDTO.Response> getDemands(
+            @RequestParam(required = false) DemandStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(defaultValue = "-createdAt") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return demandService.getDemands(status, priority, sort, cursor, limit);
+    }
+
+    // Lightweight list rows (no items) for tables
+    @GetMapping("/summary")
+    public CursorPage<DemandDTO.Summary> getDemandSummaries(
+            @RequestParam(required = false) DemandStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(defaultValue = "-createdAt") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return demandService.getDemandSummaries(status, priority, sort, cursor, limit);
     }
 
     @GetMapping("/{id}")
@@ -34,8 +53,17 @@ public class DemandController {
         return demandService.createDemand(request);
     }
 
+    // Creates a DRAFT offer per demand and marks the demand PROCESSED; results are reported per demand
+    @PostMapping("/convert-to-offers")
+    public DemandDTO.ConversionResult convertToOffers(@Valid @RequestBody DemandDTO.ConversionRequest request) {
+        return demandConversionService.convert(request);
+    }
+
     @PatchMapping("/{id}/status")
-    public DemandDTO.Response updateStatus(@PathVariable UUID id, @RequestParam DemandStatus status) {
-        return demandService.updateStatus(id, status);
+    public DemandDTO.Response updateStatus(
+            @PathVariable UUID id,
+            @RequestParam DemandStatus status,
+            @RequestParam(required = false) Long version) {
+        return demandService.updateStatus(id, status, version);
     }
 }
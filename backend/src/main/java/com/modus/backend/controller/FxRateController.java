@@ -0,0 +1,31 @@
+package com.modus.backend.controller;
+
+import com.modus.backend.dto.FxRateDTO;
+import com.modus.backend.service.FxRateService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/fx-rates")
+@RequiredArgsConstructor
+@CrossOrigin
+public class FxRateController {
+
+    private final FxRateService fxRateService;
+
+    @GetMapping
+    public List<FxRateDTO.Rate> getRates() {
+        return fxRateService.getRates();
+    }
+
+    // Creates the rate or replaces the one with the same currency and effective date
+    @PutMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public FxRateDTO.Rate setRate(@Valid @RequestBody FxRateDTO.RateRequest request) {
+        return fxRateService.setRate(request);
+    }
+}
@@ -1,6 +1,7 @@
 package com.modus.backend.controller;
 
 import com.modus.backend.domain.entity.OfferStatus;
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.OfferDTO;
 import com.modus.backend.service.OfferService;
 import jakarta.validation.Valid;
@@ -8,7 +9,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,8 +19,26 @@ public class OfferController {
     private final OfferService offerService;
 
     @GetMapping
-    public List<OfferDTO.Response> getAllOffers() {
-        return offerService.getAllOffers();
+    public CursorPage<OfferDTO.Response> getOffers(
+            @RequestParam(required = false) OfferStatus status,
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) String currency,
+            @RequestParam(defaultValue = "-createdAt") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return offerService.getOffers(status, customerId, currency, sort, cursor, limit);
+    }
+
+    // Lightweight list rows (no items) for tables
+    @GetMapping("/summary")
+    public CursorPage<OfferDTO.Summary> getOfferSummaries(
+            @RequestParam(required = false) OfferStatus status,
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) String currency,
+            @RequestParam(defaultValue = "-createdAt") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return offerService.getOfferSummaries(status, customerId, currency, sort, cursor, limit);
     }
 
     @GetMapping("/{id}")
@@ -34,8 +52,17 @@ public class OfferController {
         return offerService.createOffer(request);
     }
 
+    // Offers are created independently; the response reports the outcome of each one
+    @PostMapping("/bulk")
+    public OfferDTO.BulkResult createOffers(@Valid @RequestBody OfferDTO.BulkCreateRequest request) {
+        return offerService.createOffers(request);
+    }
+
     @PatchMapping("/{id}/status")
-    public OfferDTO.Response updateStatus(@PathVariable UUID id, @RequestParam OfferStatus status) {
-        return offerService.updateStatus(id, status);
+    public OfferDTO.Response updateStatus(
+            @PathVariable UUID id,
+            @RequestParam OfferStatus status,
+            @RequestParam(required = false) Long version) {
+        return offerService.updateStatus(id, status, version);
     }
 }
@@ -0,0 +1,56 @@
+package com.modus.backend.controller;
+
+import com.modus.backend.dto.PricingDTO;
+import com.modus.backend.service.PriceListService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/pricing")
+@RequiredArgsConstructor
+@CrossOrigin
+public class PricingController {
+
+    private final PriceListService priceListService;
+
+    @GetMapping("/price-lists")
+    public List<PricingDTO.PriceListResponse> getPriceLists() {
+        return priceListService.getPriceLists();
+    }
+
+    @GetMapping("/price-lists/{id}")
+    public PricingDTO.PriceListResponse getPriceList(@PathVariable UUID id) {
+        return priceListService.getPriceList(id);
+    }
+
+    @PostMapping("/price-lists")
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public PricingDTO.PriceListResponse createPriceList(@Valid @RequestBody PricingDTO.PriceListRequest request) {
+        return priceListService.createPriceList(request);
+    }
+
+    @PutMapping("/price-lists/{id}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public PricingDTO.PriceListResponse updatePriceList(@PathVariable UUID id, @Valid @RequestBody PricingDTO.PriceListRequest request) {
+        return priceListService.updatePriceList(id, request);
+    }
+
+    @DeleteMapping("/price-lists/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void deletePriceList(@PathVariable UUID id) {
+        priceListService.deletePriceList(id);
+    }
+
+    @PostMapping("/quote")
+    public List<PricingDTO.QuotedLine> quote(@Valid @RequestBody PricingDTO.QuoteRequest request) {
+        return priceListService.quote(request);
+    }
+}
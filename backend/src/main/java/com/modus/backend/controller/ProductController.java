@@ -1,7 +1,10 @@
 package com.modus.backend.controller;
 
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.ProductRequest;
 import com.modus.backend.dto.ProductResponse;
+import com.modus.backend.dto.ProductSearchDTO;
+import com.modus.backend.service.ProductSearchService;
 import com.modus.backend.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -17,6 +20,7 @@ import java.util.UUID;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -25,8 +29,28 @@ public class ProductController {
     }
 
     @GetMapping
-    public List<ProductResponse> getAllProducts() {
-        return productService.getAllProducts();
+    public CursorPage<ProductResponse> getProducts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String unit,
+            @RequestParam(defaultValue = "name") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return productService.getProducts(q, unit, sort, cursor, limit);
+    }
+
+    // Ranked full-text search over SKU, name and description; tolerates typos and unfinished words
+    @GetMapping("/search")
+    public List<ProductSearchDTO.Hit> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return productSearchService.search(q, limit);
+    }
+
+    @GetMapping("/autocomplete")
+    public List<ProductSearchDTO.Suggestion> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return productSearchService.autocomplete(q, limit);
     }
 
     @GetMapping("/{id}")
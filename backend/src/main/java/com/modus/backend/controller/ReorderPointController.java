@@ -0,0 +1,36 @@
+package com.modus.backend.controller;
+
+import com.modus.backend.dto.ReorderPointDTO;
+import com.modus.backend.service.ReorderPointService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/stock/reorder-points")
+@RequiredArgsConstructor
+@CrossOrigin
+public class ReorderPointController {
+
+    private final ReorderPointService reorderPointService;
+
+    @GetMapping
+    public List<ReorderPointDTO.Response> getReorderPoints(@RequestParam UUID productId) {
+        return reorderPointService.getReorderPoints(productId);
+    }
+
+    @PutMapping
+    public ReorderPointDTO.Response setReorderPoint(@Valid @RequestBody ReorderPointDTO.Request request) {
+        return reorderPointService.setReorderPoint(request);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteReorderPoint(@PathVariable UUID id) {
+        reorderPointService.deleteReorderPoint(id);
+    }
+}
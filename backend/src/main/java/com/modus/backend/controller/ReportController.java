@@ -1,10 +1,12 @@
 package com.modus.backend.controller;
 
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.ReportDTO;
 import com.modus.backend.service.ReportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -18,4 +20,11 @@ public class ReportController {
     public ReportDTO.DashboardData getDashboardData() {
         return reportService.getDashboardData();
     }
+
+    @GetMapping("/activities")
+    public CursorPage<ReportDTO.RecentActivity> getActivities(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return reportService.getActivities(cursor, limit);
+    }
 }
@@ -0,0 +1,35 @@
+package com.modus.backend.controller;
+
+import com.modus.backend.dto.StockImportDTO;
+import com.modus.backend.service.StockImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/stock/imports")
+@RequiredArgsConstructor
+@CrossOrigin
+@PreAuthorize("hasAuthority('ADMIN')")
+public class StockImportController {
+
+    private final StockImportService stockImportService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public StockImportDTO.Status startImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) StockImportDTO.Format format) {
+        return stockImportService.startImport(file, format);
+    }
+
+    @GetMapping("/{id}")
+    public StockImportDTO.Status getStatus(@PathVariable UUID id) {
+        return stockImportService.getStatus(id);
+    }
+}
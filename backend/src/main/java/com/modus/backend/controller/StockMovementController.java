@@ -1,11 +1,21 @@
 package com.modus.backend.controller;
 
+import com.modus.backend.domain.entity.StockMovementType;
+import com.modus.backend.dto.CursorPage;
+import com.modus.backend.dto.StockMovementDocumentRequest;
 import com.modus.backend.dto.StockMovementRequest;
+import com.modus.backend.dto.StockMovementResponse;
 import com.modus.backend.service.StockService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/v1/stock/movements")
 @RequiredArgsConstructor
@@ -20,8 +30,21 @@ public class StockMovementController {
         stockService.recordMovement(request);
     }
 
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public void createMovements(@Valid @RequestBody StockMovementDocumentRequest request) {
+        stockService.recordMovements(request);
+    }
+
     @GetMapping
-    public java.util.List<com.modus.backend.dto.StockMovementResponse> getHistory(@RequestParam java.util.UUID productId) {
-        return stockService.getHistory(productId);
+    public CursorPage<StockMovementResponse> getHistory(
+            @RequestParam UUID productId,
+            @RequestParam(required = false) UUID warehouseId,
+            @RequestParam(required = false) List<StockMovementType> type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return stockService.getHistory(productId, warehouseId, type, from, to, cursor, limit);
     }
 }
@@ -0,0 +1,36 @@
+package com.modus.backend.controller;
+
+import com.modus.backend.dto.StockPartitionDTO;
+import com.modus.backend.service.StockPartitionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/stock/partitions")
+@RequiredArgsConstructor
+@CrossOrigin
+@PreAuthorize("hasAuthority('ADMIN')")
+public class StockPartitionController {
+
+    private final StockPartitionService stockPartitionService;
+
+    @GetMapping
+    public List<StockPartitionDTO.Partition> getPartitions() {
+        return stockPartitionService.getPartitions();
+    }
+
+    @GetMapping("/archives")
+    public List<StockPartitionDTO.Archive> getArchives() {
+        return stockPartitionService.getArchives();
+    }
+
+    @PostMapping("/{name}/detach")
+    public StockPartitionDTO.Archive detachPartition(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "true") boolean archive) {
+        return stockPartitionService.detachPartition(name, archive);
+    }
+}
@@ -1,11 +1,27 @@
 package com.modus.backend.controller;
 
+import com.modus.backend.dto.ReorderPointDTO;
 import com.modus.backend.dto.StockSummaryResponse;
+import com.modus.backend.dto.StockTrendPoint;
+import com.modus.backend.dto.auth.StreamToken;
+import com.modus.backend.service.JwtService;
+import com.modus.backend.service.LowStockIndex;
+import com.modus.backend.service.StockRollupService;
+import com.modus.backend.service.StockStreamService;
 import com.modus.backend.service.StockService;
+import com.modus.backend.service.StockSnapshotService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +32,11 @@ import java.util.UUID;
 public class StockQueryController {
 
     private final StockService stockService;
+    private final StockSnapshotService stockSnapshotService;
+    private final StockRollupService stockRollupService;
+    private final LowStockIndex lowStockIndex;
+    private final StockStreamService stockStreamService;
+    private final JwtService jwtService;
 
     @GetMapping
     public List<StockSummaryResponse> getStockOverview(@RequestParam UUID warehouseId) {
@@ -26,4 +47,49 @@ public class StockQueryController {
     public BigDecimal getCurrentStock(@PathVariable UUID productId, @RequestParam UUID warehouseId) {
         return stockService.getCurrentStock(productId, warehouseId);
     }
+
+    @GetMapping("/as-of")
+    public List<StockSummaryResponse> getStockAsOf(
+            @RequestParam UUID warehouseId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        return stockSnapshotService.getStockAsOf(warehouseId, at);
+    }
+
+    @GetMapping("/as-of/{productId}")
+    public BigDecimal getStockAsOf(
+            @PathVariable UUID productId,
+            @RequestParam UUID warehouseId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        return stockSnapshotService.getQuantityAsOf(productId, warehouseId, at);
+    }
+
+    // EventSource cannot send the Authorization header; the client trades its session for a short-lived stream token
+    @PostMapping("/stream-token")
+    public StreamToken createStreamToken(@AuthenticationPrincipal UserDetails user) {
+        return jwtService.generateStreamToken(user);
+    }
+
+    // Pushes a 'snapshot' event, then a 'stock' event with coalesced changes after each commit touching the warehouse.
+    // Authenticated by the Authorization header or a stream token in access_token.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStock(@RequestParam UUID warehouseId, HttpServletResponse response) {
+        response.setHeader("X-Accel-Buffering", "no");
+        return stockStreamService.subscribe(warehouseId);
+    }
+
+    @GetMapping("/low-stock")
+    public List<ReorderPointDTO.LowStockItem> getLowStock(
+            @RequestParam(required = false) UUID warehouseId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return lowStockIndex.getLowStock(warehouseId, Math.min(Math.max(limit, 1), 500));
+    }
+
+    @GetMapping("/trend")
+    public List<StockTrendPoint> getTrend(
+            @RequestParam UUID productId,
+            @RequestParam(required = false) UUID warehouseId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return stockRollupService.getTrend(productId, warehouseId, from, to);
+    }
 }
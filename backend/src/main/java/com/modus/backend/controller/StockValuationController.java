@@ -0,0 +1,35 @@
+package com.modus.backend.controller;
+
+import com.modus.backend.dto.StockValuationDTO;
+import com.modus.backend.service.InventoryValuationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/stock/valuation")
+@RequiredArgsConstructor
+@CrossOrigin
+public class StockValuationController {
+
+    private final InventoryValuationService inventoryValuationService;
+
+    @GetMapping
+    public StockValuationDTO.Report getValuation(
+            @RequestParam(required = false) UUID warehouseId,
+            @RequestParam(defaultValue = "AVERAGE") StockValuationDTO.Method method) {
+        return inventoryValuationService.getReport(warehouseId, method);
+    }
+
+    // Without apply this only reports rows that differ from a replay of the ledger
+    @PostMapping("/recompute")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public StockValuationDTO.Audit recompute(
+            @RequestParam(required = false) List<UUID> productId,
+            @RequestParam(defaultValue = "false") boolean apply) {
+        return inventoryValuationService.recompute(productId, apply);
+    }
+}
@@ -1,5 +1,6 @@
 package com.modus.backend.controller;
 
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.WarehouseRequest;
 import com.modus.backend.dto.WarehouseResponse;
 import com.modus.backend.service.WarehouseService;
@@ -7,8 +8,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/warehouses")
 @RequiredArgsConstructor
@@ -24,7 +23,12 @@ public class WarehouseController {
     }
 
     @GetMapping
-    public List<WarehouseResponse> getAllWarehouses() {
-        return warehouseService.getAllWarehouses();
+    public CursorPage<WarehouseResponse> getWarehouses(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = "name") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return warehouseService.getWarehouses(q, active, sort, cursor, limit);
     }
 }
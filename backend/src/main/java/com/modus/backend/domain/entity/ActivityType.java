@@ -0,0 +1,10 @@
+package com.modus.backend.domain.entity;
+
+public enum ActivityType {
+    STOCK_MOVEMENT,
+    STOCK_TRANSFER,
+    STOCK_DOCUMENT,
+    OFFER_STATUS,
+    DEMAND_STATUS,
+    CUSTOMER_CREATED
+}
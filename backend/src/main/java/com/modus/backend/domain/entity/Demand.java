@@ -47,6 +47,10 @@ public class Demand {
     @Builder.Default
     private List<DemandItem> items = new ArrayList<>();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
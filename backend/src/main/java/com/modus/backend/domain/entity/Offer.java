@@ -29,7 +29,7 @@ public class Offer {
     @JoinColumn(name = "demand_id")
     private Demand demand;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
 
@@ -48,6 +48,10 @@ public class Offer {
     @Builder.Default
     private List<OfferItem> items = new ArrayList<>();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
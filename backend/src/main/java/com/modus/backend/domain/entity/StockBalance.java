@@ -0,0 +1,34 @@
+package com.modus.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Table(name = "stock_balances")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockBalance {
+
+    @EmbeddedId
+    private StockBalanceId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", insertable = false, updatable = false)
+    private Product product;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "warehouse_id", insertable = false, updatable = false)
+    private Warehouse warehouse;
+
+    @Column(nullable = false, precision = 15, scale = 3)
+    private BigDecimal quantity;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.modus.backend.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBalanceId implements Serializable {
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private UUID warehouseId;
+}
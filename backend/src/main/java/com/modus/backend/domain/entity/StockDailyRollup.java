@@ -0,0 +1,31 @@
+package com.modus.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "stock_daily_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockDailyRollup {
+
+    @EmbeddedId
+    private StockDailyRollupId id;
+
+    @Column(name = "opening_quantity", nullable = false, precision = 15, scale = 3)
+    private BigDecimal openingQuantity;
+
+    @Column(name = "in_quantity", nullable = false, precision = 15, scale = 3)
+    private BigDecimal inQuantity;
+
+    @Column(name = "out_quantity", nullable = false, precision = 15, scale = 3)
+    private BigDecimal outQuantity;
+
+    @Column(name = "closing_quantity", nullable = false, precision = 15, scale = 3)
+    private BigDecimal closingQuantity;
+}
@@ -0,0 +1,27 @@
+package com.modus.backend.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockDailyRollupId implements Serializable {
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private UUID warehouseId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+}
@@ -43,6 +43,11 @@ public class StockMovement {
     @Column(nullable = false, precision = 12, scale = 3)
     private BigDecimal quantity;
 
+    // Cost per unit of a receipt; null values it at the current average cost
+    @DecimalMin(value = "0", message = "Unit cost must not be negative")
+    @Column(name = "unit_cost", precision = 15, scale = 4)
+    private BigDecimal unitCost;
+
     @Column(name = "transfer_group_id")
     private UUID transferGroupId;
 
@@ -4,5 +4,9 @@ public enum StockMovementType {
     IN,
     OUT,
     TRANSFER_IN,
-    TRANSFER_OUT
+    TRANSFER_OUT;
+
+    public boolean isInbound() {
+        return this == IN || this == TRANSFER_IN;
+    }
 }
@@ -0,0 +1,34 @@
+package com.modus.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "stock_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private Instant snapshotAt;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private UUID warehouseId;
+
+    @Column(nullable = false, precision = 15, scale = 3)
+    private BigDecimal quantity;
+}
@@ -0,0 +1,10 @@
+package com.modus.backend.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CustomerCreatedEvent(
+    UUID customerId,
+    String name,
+    Instant occurredAt
+) {}
@@ -0,0 +1,9 @@
+package com.modus.backend.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CustomerDeletedEvent(
+    UUID customerId,
+    Instant occurredAt
+) {}
@@ -0,0 +1,15 @@
+package com.modus.backend.domain.event;
+
+import com.modus.backend.domain.entity.DemandStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// previousStatus is null when the demand was just created
+public record DemandStatusChangedEvent(
+    UUID demandId,
+    String title,
+    DemandStatus previousStatus,
+    DemandStatus status,
+    Instant occurredAt
+) {}
@@ -0,0 +1,3 @@
+package com.modus.backend.domain.event;
+
+public record FxRatesChangedEvent(String currency) {}
@@ -0,0 +1,11 @@
+package com.modus.backend.domain.event;
+
+import java.time.Instant;
+
+// Published inside the detach transaction while the partition is still attached; listeners capture whatever
+// they need from the ledger up to the new floor
+public record LedgerDetachingEvent(
+    String partitionName,
+    Instant ledgerFloor,
+    Instant previousLedgerFloor
+) {}
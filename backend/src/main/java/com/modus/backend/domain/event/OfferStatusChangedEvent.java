@@ -0,0 +1,19 @@
+package com.modus.backend.domain.event;
+
+import com.modus.backend.domain.entity.OfferStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+// previousStatus is null when the offer was just created
+public record OfferStatusChangedEvent(
+    UUID offerId,
+    UUID customerId,
+    String customerName,
+    String currency,
+    BigDecimal totalAmount,
+    OfferStatus previousStatus,
+    OfferStatus status,
+    Instant occurredAt
+) {}
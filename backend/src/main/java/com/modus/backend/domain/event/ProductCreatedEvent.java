@@ -0,0 +1,11 @@
+package com.modus.backend.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProductCreatedEvent(
+    UUID productId,
+    String sku,
+    String name,
+    Instant occurredAt
+) {}
@@ -0,0 +1,5 @@
+package com.modus.backend.domain.event;
+
+import java.util.UUID;
+
+public record ReorderPointsChangedEvent(UUID productId) {}
@@ -0,0 +1,19 @@
+package com.modus.backend.domain.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Net balance changes of one transaction; listeners act on it after commit
+public record StockBalancesChangedEvent(
+    List<Delta> deltas,
+    Instant occurredAt
+) {
+
+    public record Delta(
+        UUID productId,
+        UUID warehouseId,
+        BigDecimal delta
+    ) {}
+}
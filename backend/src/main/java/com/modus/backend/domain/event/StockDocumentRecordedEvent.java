@@ -0,0 +1,9 @@
+package com.modus.backend.domain.event;
+
+import java.time.Instant;
+
+public record StockDocumentRecordedEvent(
+    int lines,
+    String note,
+    Instant occurredAt
+) {}
@@ -0,0 +1,17 @@
+package com.modus.backend.domain.event;
+
+import com.modus.backend.domain.entity.StockMovementType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record StockMovementRecordedEvent(
+    UUID movementId,
+    UUID productId,
+    String sku,
+    String warehouseName,
+    StockMovementType type,
+    BigDecimal quantity,
+    Instant occurredAt
+) {}
@@ -0,0 +1,15 @@
+package com.modus.backend.domain.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record StockTransferredEvent(
+    UUID transferGroupId,
+    UUID productId,
+    String sku,
+    String sourceWarehouseName,
+    String targetWarehouseName,
+    BigDecimal quantity,
+    Instant occurredAt
+) {}
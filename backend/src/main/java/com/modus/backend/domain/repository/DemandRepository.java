@@ -2,11 +2,31 @@ package com.modus.backend.domain.repository;
 
 import com.modus.backend.domain.entity.Demand;
 import com.modus.backend.domain.entity.DemandStatus;
+import com.modus.backend.domain.entity.Priority;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface DemandRepository extends JpaRepository<Demand, UUID> {
     List<Demand> findByStatus(DemandStatus status);
     long countByStatus(DemandStatus status);
+
+    // Detail view in one statement
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    Optional<Demand> findDetailedById(UUID id);
+
+    // Rows are locked in id order so concurrent bulk conversions cannot deadlock or convert a demand twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Demand d WHERE d.id IN :ids ORDER BY d.id")
+    List<Demand> lockAllByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT d.id FROM Demand d WHERE d.status = :status AND (:priority IS NULL OR d.priority = :priority) ORDER BY d.createdAt, d.id")
+    List<UUID> findIdsByStatusAndPriority(DemandStatus status, Priority priority, Pageable pageable);
 }
@@ -0,0 +1,74 @@
+package com.modus.backend.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Seek-method paging over any entity with a UUID id: WHERE (sort, id) > (:after, :afterId) ORDER BY sort, id LIMIT n.
+// A nullable sort column orders its nulls last in both directions; a null afterValue then seeks within the nulls.
+@Repository
+public class KeysetQueryExecutor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> List<T> findPage(Class<T> entityType, Specification<T> filter, String sortProperty, boolean nullable,
+                                boolean descending, Comparable<?> afterValue, UUID afterId, int limit) {
+        return findPage(entityType, entityType, filter, (root, query, cb) -> root, sortProperty, nullable, descending,
+                afterValue, afterId, limit);
+    }
+
+    // Same seek, but selecting a projection (typically an aggregate over joined rows grouped by the entity id)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T, R> List<R> findPage(Class<T> entityType, Class<R> resultType, Specification<T> filter, Projection<T, R> projection,
+                                   String sortProperty, boolean nullable, boolean descending, Comparable afterValue, UUID afterId,
+                                   int limit) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(resultType);
+        Root<T> root = query.from(entityType);
+        Path<Comparable> sortPath = root.get(sortProperty);
+        Path<UUID> idPath = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            Predicate predicate = filter.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (afterId != null) {
+            Predicate idBeyond = descending ? cb.lessThan(idPath, afterId) : cb.greaterThan(idPath, afterId);
+            if (afterValue != null) {
+                Predicate beyond = descending ? cb.lessThan(sortPath, afterValue) : cb.greaterThan(sortPath, afterValue);
+                Predicate tieBreak = cb.and(cb.equal(sortPath, afterValue), idBeyond);
+                predicates.add(nullable ? cb.or(beyond, tieBreak, cb.isNull(sortPath)) : cb.or(beyond, tieBreak));
+            } else if (nullable) {
+                predicates.add(cb.and(cb.isNull(sortPath), idBeyond));
+            }
+        }
+
+        // Only nullable columns spell out NULLS LAST; on the rest it would stop descending sorts from using their index
+        Order sortOrder = nullable
+                ? (descending ? cb.desc(sortPath, false) : cb.asc(sortPath, false))
+                : (descending ? cb.desc(sortPath) : cb.asc(sortPath));
+        query.select(projection.select(root, query, cb))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(List.of(sortOrder, descending ? cb.desc(idPath) : cb.asc(idPath)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @FunctionalInterface
+    public interface Projection<T, R> {
+        Selection<? extends R> select(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb);
+    }
+}
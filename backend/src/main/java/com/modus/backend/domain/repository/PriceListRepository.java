@@ -0,0 +1,18 @@
+package com.modus.backend.domain.repository;
+
+import com.modus.backend.domain.entity.PriceList;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PriceListRepository extends JpaRepository<PriceList, UUID> {
+
+    @EntityGraph(attributePaths = {"customer"})
+    List<PriceList> findAllByOrderByName();
+
+    @EntityGraph(attributePaths = {"customer", "entries", "entries.product"})
+    Optional<PriceList> findDetailedById(UUID id);
+}
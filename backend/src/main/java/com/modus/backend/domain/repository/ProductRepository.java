@@ -2,8 +2,10 @@ package com.modus.backend.domain.repository;
 
 import com.modus.backend.domain.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +13,12 @@ import java.util.UUID;
 public interface ProductRepository extends JpaRepository<Product, UUID> {
     boolean existsBySku(String sku);
     Optional<Product> findBySku(String sku);
+
+    @Query("SELECT p.id AS id, p.sku AS sku FROM Product p")
+    List<SkuLookup> findAllSkus();
+
+    interface SkuLookup {
+        UUID getId();
+        String getSku();
+    }
 }
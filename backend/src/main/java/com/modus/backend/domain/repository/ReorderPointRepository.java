@@ -0,0 +1,33 @@
+package com.modus.backend.domain.repository;
+
+import com.modus.backend.domain.entity.ReorderPoint;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ReorderPointRepository extends JpaRepository<ReorderPoint, UUID> {
+
+    Optional<ReorderPoint> findByProductIdAndWarehouseIsNull(UUID productId);
+
+    Optional<ReorderPoint> findByProductIdAndWarehouseId(UUID productId, UUID warehouseId);
+
+    @EntityGraph(attributePaths = {"product", "warehouse"})
+    List<ReorderPoint> findByProductIdOrderByCreatedAt(UUID productId);
+
+    @Query("SELECT r.product.id AS productId, w.id AS warehouseId, r.threshold AS threshold " +
+           "FROM ReorderPoint r LEFT JOIN r.warehouse w")
+    List<ThresholdView> findAllThresholds();
+
+    interface ThresholdView {
+        UUID getProductId();
+        UUID getWarehouseId();
+        BigDecimal getThreshold();
+    }
+}
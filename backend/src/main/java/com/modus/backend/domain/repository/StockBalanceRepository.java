@@ -0,0 +1,43 @@
+package com.modus.backend.domain.repository;
+
+import com.modus.backend.domain.entity.StockBalance;
+import com.modus.backend.domain.entity.StockBalanceId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Repository
+public interface StockBalanceRepository extends JpaRepository<StockBalance, StockBalanceId> {
+
+    @Query("SELECT COALESCE(SUM(b.quantity), 0) FROM StockBalance b " +
+           "WHERE b.id.productId = :productId AND b.id.warehouseId = :warehouseId")
+    BigDecimal findQuantity(@Param("productId") UUID productId, @Param("warehouseId") UUID warehouseId);
+
+    @Modifying
+    @Query(value = "INSERT INTO stock_balances (product_id, warehouse_id, quantity, updated_at) " +
+                   "VALUES (:productId, :warehouseId, :delta, now()) " +
+                   "ON CONFLICT (product_id, warehouse_id) " +
+                   "DO UPDATE SET quantity = stock_balances.quantity + EXCLUDED.quantity, updated_at = now()",
+           nativeQuery = true)
+    int applyDelta(@Param("productId") UUID productId, @Param("warehouseId") UUID warehouseId, @Param("delta") BigDecimal delta);
+
+    // Guarded decrement: matches no row (returns 0) when the balance cannot cover the quantity
+    @Modifying
+    @Query(value = "UPDATE stock_balances SET quantity = quantity - :quantity, updated_at = now() " +
+                   "WHERE product_id = :productId AND warehouse_id = :warehouseId AND quantity >= :quantity",
+           nativeQuery = true)
+    int tryDecrement(@Param("productId") UUID productId, @Param("warehouseId") UUID warehouseId, @Param("quantity") BigDecimal quantity);
+
+    // Interface-based Projection for the balance queries
+    interface StockSummary {
+        UUID getProductId();
+        String getProductName();
+        String getSku();
+        BigDecimal getQuantity();
+    }
+}
@@ -0,0 +1,80 @@
+package com.modus.backend.domain.repository;
+
+import com.modus.backend.domain.entity.StockDailyRollup;
+import com.modus.backend.domain.entity.StockDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface StockDailyRollupRepository extends JpaRepository<StockDailyRollup, StockDailyRollupId> {
+
+    // A new day opens at the closing of the latest earlier day (or zero); an existing day just accumulates
+    @Modifying
+    @Query(value = "INSERT INTO stock_daily_rollups " +
+                   "(product_id, warehouse_id, day, opening_quantity, in_quantity, out_quantity, closing_quantity) " +
+                   "SELECT :productId, :warehouseId, :day, prev.quantity, :inQuantity, :outQuantity, " +
+                   "       prev.quantity + :inQuantity - :outQuantity " +
+                   "FROM (SELECT COALESCE((SELECT r.closing_quantity FROM stock_daily_rollups r " +
+                   "                       WHERE r.product_id = :productId AND r.warehouse_id = :warehouseId AND r.day < :day " +
+                   "                       ORDER BY r.day DESC LIMIT 1), 0) AS quantity) prev " +
+                   "ON CONFLICT (product_id, warehouse_id, day) DO UPDATE SET " +
+                   "in_quantity = stock_daily_rollups.in_quantity + EXCLUDED.in_quantity, " +
+                   "out_quantity = stock_daily_rollups.out_quantity + EXCLUDED.out_quantity, " +
+                   "closing_quantity = stock_daily_rollups.closing_quantity + EXCLUDED.in_quantity - EXCLUDED.out_quantity",
+           nativeQuery = true)
+    int applyDay(@Param("productId") UUID productId,
+                 @Param("warehouseId") UUID warehouseId,
+                 @Param("day") LocalDate day,
+                 @Param("inQuantity") BigDecimal inQuantity,
+                 @Param("outQuantity") BigDecimal outQuantity);
+
+    // Carries a change on one day into every later day; only back-dated writes ever match rows here
+    @Modifying
+    @Query(value = "UPDATE stock_daily_rollups " +
+                   "SET opening_quantity = opening_quantity + :delta, closing_quantity = closing_quantity + :delta " +
+                   "WHERE product_id = :productId AND warehouse_id = :warehouseId AND day > :day",
+           nativeQuery = true)
+    int shiftLaterDays(@Param("productId") UUID productId,
+                       @Param("warehouseId") UUID warehouseId,
+                       @Param("day") LocalDate day,
+                       @Param("delta") BigDecimal delta);
+
+    @Query("SELECT r FROM StockDailyRollup r " +
+           "WHERE r.id.productId = :productId AND r.id.day BETWEEN :from AND :to " +
+           "ORDER BY r.id.day")
+    List<StockDailyRollup> findRange(@Param("productId") UUID productId,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    @Query("SELECT r FROM StockDailyRollup r " +
+           "WHERE r.id.productId = :productId AND r.id.warehouseId = :warehouseId AND r.id.day BETWEEN :from AND :to " +
+           "ORDER BY r.id.day")
+    List<StockDailyRollup> findRange(@Param("productId") UUID productId,
+                                     @Param("warehouseId") UUID warehouseId,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    // Latest row before the range per warehouse, so days without movements can carry the closing forward
+    @Query(value = "SELECT DISTINCT ON (warehouse_id) * FROM stock_daily_rollups " +
+                   "WHERE product_id = :productId AND day < :before " +
+                   "ORDER BY warehouse_id, day DESC",
+           nativeQuery = true)
+    List<StockDailyRollup> findLatestBefore(@Param("productId") UUID productId, @Param("before") LocalDate before);
+
+    @Query(value = "SELECT * FROM stock_daily_rollups " +
+                   "WHERE product_id = :productId AND warehouse_id = :warehouseId AND day < :before " +
+                   "ORDER BY day DESC LIMIT 1",
+           nativeQuery = true)
+    Optional<StockDailyRollup> findLatestBefore(@Param("productId") UUID productId,
+                                                @Param("warehouseId") UUID warehouseId,
+                                                @Param("before") LocalDate before);
+}
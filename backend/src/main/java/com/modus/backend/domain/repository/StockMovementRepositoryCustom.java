@@ -0,0 +1,26 @@
+package com.modus.backend.domain.repository;
+
+import com.modus.backend.domain.entity.StockMovementType;
+import com.modus.backend.dto.StockMovementResponse;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StockMovementRepositoryCustom {
+
+    // Newest first, keyset-paginated on (createdAt, id); null filters are left out of the query
+    List<StockMovementResponse> findHistory(HistoryQuery query);
+
+    record HistoryQuery(
+        UUID productId,
+        UUID warehouseId,
+        Collection<StockMovementType> types,
+        Instant from,
+        Instant to,
+        Instant afterCreatedAt,
+        UUID afterId,
+        int limit
+    ) {}
+}
@@ -0,0 +1,54 @@
+package com.modus.backend.domain.repository;
+
+import com.modus.backend.dto.StockMovementResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StockMovementRepositoryCustomImpl implements StockMovementRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<StockMovementResponse> findHistory(HistoryQuery query) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.modus.backend.dto.StockMovementResponse(" +
+                "sm.id, p.name, w.name, sm.type, sm.quantity, sm.note, sm.createdAt) " +
+                "FROM StockMovement sm JOIN sm.product p JOIN sm.warehouse w " +
+                "WHERE p.id = :productId");
+        Map<String, Object> params = new HashMap<>();
+        params.put("productId", query.productId());
+
+        if (query.warehouseId() != null) {
+            jpql.append(" AND w.id = :warehouseId");
+            params.put("warehouseId", query.warehouseId());
+        }
+        if (query.types() != null && !query.types().isEmpty()) {
+            jpql.append(" AND sm.type IN :types");
+            params.put("types", query.types());
+        }
+        if (query.from() != null) {
+            jpql.append(" AND sm.createdAt >= :from");
+            params.put("from", query.from());
+        }
+        if (query.to() != null) {
+            jpql.append(" AND sm.createdAt < :to");
+            params.put("to", query.to());
+        }
+        if (query.afterCreatedAt() != null) {
+            jpql.append(" AND (sm.createdAt < :afterCreatedAt OR (sm.createdAt = :afterCreatedAt AND sm.id < :afterId))");
+            params.put("afterCreatedAt", query.afterCreatedAt());
+            params.put("afterId", query.afterId());
+        }
+        jpql.append(" ORDER BY sm.createdAt DESC, sm.id DESC");
+
+        TypedQuery<StockMovementResponse> typedQuery = entityManager.createQuery(jpql.toString(), StockMovementResponse.class);
+        params.forEach(typedQuery::setParameter);
+        return typedQuery.setMaxResults(query.limit()).getResultList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.modus.backend.domain.repository;
+
+import com.modus.backend.domain.entity.StockSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, UUID> {
+
+    @Query("SELECT MAX(s.snapshotAt) FROM StockSnapshot s WHERE s.snapshotAt <= :at")
+    Instant findLatestSnapshotAt(@Param("at") Instant at);
+
+    @Query("SELECT MIN(s.snapshotAt) FROM StockSnapshot s WHERE s.snapshotAt >= :at")
+    Instant findEarliestSnapshotAtOrAfter(@Param("at") Instant at);
+
+    @Modifying
+    @Query("DELETE FROM StockSnapshot s WHERE s.snapshotAt >= :from")
+    int deleteSnapshotsFrom(@Param("from") Instant from);
+
+    // Newest first; the page picks the retention cutoff
+    @Query("SELECT DISTINCT s.snapshotAt FROM StockSnapshot s ORDER BY s.snapshotAt DESC")
+    List<Instant> findSnapshotTimes(Pageable pageable);
+
+    // Writes only the pairs whose quantity changed in (previousAt, at]: each pair's newest row at or before previousAt
+    // plus its net movement in the window
+    @Modifying
+    @Query(value = "INSERT INTO stock_snapshots (snapshot_at, product_id, warehouse_id, quantity) " +
+                   "SELECT :at, d.product_id, d.warehouse_id, COALESCE(prev.quantity, 0) + d.delta " +
+                   "FROM (" +
+                   "    SELECT product_id, warehouse_id, " +
+                   "           SUM(CASE WHEN type IN ('IN', 'TRANSFER_IN') THEN quantity ELSE -quantity END) AS delta " +
+                   "    FROM stock_movements " +
+                   "    WHERE created_at > :previousAt AND created_at <= :at " +
+                   "    GROUP BY product_id, warehouse_id " +
+                   "    HAVING SUM(CASE WHEN type IN ('IN', 'TRANSFER_IN') THEN quantity ELSE -quantity END) <> 0" +
+                   ") d " +
+                   "LEFT JOIN LATERAL (" +
+                   "    SELECT s.quantity FROM stock_snapshots s " +
+                   "    WHERE s.product_id = d.product_id AND s.warehouse_id = d.warehouse_id AND s.snapshot_at <= :previousAt " +
+                   "    ORDER BY s.snapshot_at DESC LIMIT 1" +
+                   ") prev ON true",
+           nativeQuery = true)
+    int takeSnapshot(@Param("previousAt") Instant previousAt, @Param("at") Instant at);
+
+    // Carries each pair's newest row in (from, into) forward to the checkpoint at `into` unless it has a row there already,
+    // so the rows in between can be deleted without changing any quantity as of `into` or later
+    @Modifying
+    @Query(value = "INSERT INTO stock_snapshots (snapshot_at, product_id, warehouse_id, quantity) " +
+                   "SELECT DISTINCT ON (product_id, warehouse_id) :into, product_id, warehouse_id, quantity " +
+                   "FROM stock_snapshots " +
+                   "WHERE snapshot_at > :from AND snapshot_at < :into " +
+                   "ORDER BY product_id, warehouse_id, snapshot_at DESC " +
+                   "ON CONFLICT (snapshot_at, product_id, warehouse_id) DO NOTHING",
+           nativeQuery = true)
+    int carrySnapshotsForward(@Param("from") Instant from, @Param("into") Instant into);
+
+    @Modifying
+    @Query("DELETE FROM StockSnapshot s WHERE s.snapshotAt > :from AND s.snapshotAt < :before")
+    int deleteSnapshotsBetween(@Param("from") Instant from, @Param("before") Instant before);
+
+    // A zero row only matters when an older row could show through; the oldest checkpoint has none behind it
+    @Modifying
+    @Query("DELETE FROM StockSnapshot s WHERE s.snapshotAt = :at AND s.quantity = 0")
+    int deleteZeroRows(@Param("at") Instant at);
+
+    // Checkpoint + replay of the movements after it. A pair's checkpoint quantity is its newest row at or before the
+    // checkpoint (idx_stock_snapshots_pair); the lateral sum is served by idx_stock_movements_aggregation
+    @Query(value = "SELECT p.id AS \"productId\", p.name AS \"productName\", p.sku AS \"sku\", " +
+                   "       COALESCE(s.quantity, 0) + COALESCE(m.delta, 0) AS \"quantity\" " +
+                   "FROM stock_balances b " +
+                   "JOIN products p ON p.id = b.product_id " +
+                   "LEFT JOIN LATERAL (" +
+                   "    SELECT ss.quantity FROM stock_snapshots ss " +
+                   "    WHERE ss.product_id = b.product_id AND ss.warehouse_id = b.warehouse_id AND ss.snapshot_at <= :snapshotAt " +
+                   "    ORDER BY ss.snapshot_at DESC LIMIT 1" +
+                   ") s ON true " +
+                   "LEFT JOIN LATERAL (" +
+                   "    SELECT SUM(CASE WHEN sm.type IN ('IN', 'TRANSFER_IN') THEN sm.quantity ELSE -sm.quantity END) AS delta " +
+                   "    FROM stock_movements sm " +
+                   "    WHERE sm.product_id = b.product_id AND sm.warehouse_id = b.warehouse_id " +
+                   "      AND sm.created_at > :snapshotAt AND sm.created_at <= :at" +
+                   ") m ON true " +
+                   "WHERE b.warehouse_id = :warehouseId " +
+                   "  AND (s.quantity IS NOT NULL OR m.delta IS NOT NULL)",
+           nativeQuery = true)
+    List<StockBalanceRepository.StockSummary> findStockAsOf(@Param("warehouseId") UUID warehouseId,
+                                                            @Param("snapshotAt") Instant snapshotAt,
+                                                            @Param("at") Instant at);
+
+    @Query(value = "SELECT COALESCE((SELECT s.quantity FROM stock_snapshots s " +
+                   "                 WHERE s.product_id = :productId AND s.warehouse_id = :warehouseId AND s.snapshot_at <= :snapshotAt " +
+                   "                 ORDER BY s.snapshot_at DESC LIMIT 1), 0) + " +
+                   "       COALESCE((SELECT SUM(CASE WHEN sm.type IN ('IN', 'TRANSFER_IN') THEN sm.quantity ELSE -sm.quantity END) " +
+                   "                 FROM stock_movements sm " +
+                   "                 WHERE sm.product_id = :productId AND sm.warehouse_id = :warehouseId " +
+                   "                   AND sm.created_at > :snapshotAt AND sm.created_at <= :at), 0)",
+           nativeQuery = true)
+    BigDecimal findQuantityAsOf(@Param("productId") UUID productId,
+                                @Param("warehouseId") UUID warehouseId,
+                                @Param("snapshotAt") Instant snapshotAt,
+                                @Param("at") Instant at);
+}
@@ -35,9 +35,45 @@ public class DemandDTO {
         Priority priority,
         LocalDateTime dueDate,
         List<ItemResponse> items,
+        LocalDateTime createdAt,
+        // Pass back with a status change to fail with 409 if the record changed in between
+        long version
+    ) {}
+
+    // List row without items; itemCount and totalQuantity are aggregated in the same query
+    public record Summary(
+        UUID id,
+        String title,
+        String requesterName,
+        DemandStatus status,
+        Priority priority,
+        LocalDateTime dueDate,
+        long itemCount,
+        long totalQuantity,
         LocalDateTime createdAt
     ) {}
 
+    // Either explicit demandIds, or every PENDING demand (optionally of one priority)
+    public record ConversionRequest(
+        List<UUID> demandIds,
+        Priority priority,
+        @NotNull UUID customerId,
+        LocalDateTime validUntil,
+        String currency
+    ) {}
+
+    public record ConversionItemResult(
+        UUID demandId,
+        UUID offerId,
+        String error
+    ) {}
+
+    public record ConversionResult(
+        int converted,
+        int failed,
+        List<ConversionItemResult> results
+    ) {}
+
     public record ItemResponse(
         UUID id,
         UUID productId,
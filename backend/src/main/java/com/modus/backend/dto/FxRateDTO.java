@@ -0,0 +1,23 @@
+package com.modus.backend.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class FxRateDTO {
+
+    // rate is the value of one unit of currency in the base currency
+    public record RateRequest(
+        @NotNull @Pattern(regexp = "[A-Z]{3}") String currency,
+        @NotNull LocalDate effectiveDate,
+        @NotNull @DecimalMin(value = "0", inclusive = false) BigDecimal rate
+    ) {}
+
+    public record Rate(
+        String currency,
+        LocalDate effectiveDate,
+        BigDecimal rate
+    ) {}
+}
@@ -1,6 +1,8 @@
 package com.modus.backend.dto;
 
 import com.modus.backend.domain.entity.OfferStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
@@ -15,13 +17,18 @@ public class OfferDTO {
         @NotNull UUID customerId,
         LocalDateTime validUntil,
         String currency,
-        @NotEmpty List<ItemRequest> items
+        @NotEmpty List<@Valid ItemRequest> items
+    ) {}
+
+    public record BulkCreateRequest(
+        @NotEmpty List<CreateRequest> offers
     ) {}
 
     public record ItemRequest(
         @NotNull UUID productId,
         @NotNull Integer quantity,
-        @NotNull BigDecimal unitPrice,
+        // Left out, the price comes from the customer's price lists
+        @DecimalMin("0.00") BigDecimal unitPrice,
         BigDecimal discount
     ) {}
 
@@ -36,9 +43,39 @@ public class OfferDTO {
         String currency,
         LocalDateTime validUntil,
         List<ItemResponse> items,
+        LocalDateTime createdAt,
+        // Pass back with a status change to fail with 409 if the record changed in between
+        long version
+    ) {}
+
+    // List row without items; itemCount is aggregated in the same query
+    public record Summary(
+        UUID id,
+        UUID demandId,
+        String demandTitle,
+        UUID customerId,
+        String customerName,
+        OfferStatus status,
+        BigDecimal totalAmount,
+        String currency,
+        LocalDateTime validUntil,
+        long itemCount,
         LocalDateTime createdAt
     ) {}
 
+    // Per offer of a bulk request, in request order: offerId when created, error otherwise
+    public record BulkItemResult(
+        int index,
+        UUID offerId,
+        String error
+    ) {}
+
+    public record BulkResult(
+        int created,
+        int failed,
+        List<BulkItemResult> results
+    ) {}
+
     public record ItemResponse(
         UUID id,
         UUID productId,
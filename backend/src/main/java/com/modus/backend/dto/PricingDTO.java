@@ -0,0 +1,86 @@
+package com.modus.backend.dto;
+
+import com.modus.backend.domain.entity.CustomerType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public class PricingDTO {
+
+    // Where a quoted price came from, most specific first
+    public enum Source {
+        CUSTOMER,
+        CUSTOMER_TYPE,
+        GENERAL,
+        LIST_PRICE
+    }
+
+    // Set customerId or customerType (not both), or neither for a list that applies to everyone
+    public record PriceListRequest(
+        @NotBlank String name,
+        @Size(min = 3, max = 3) String currency,
+        UUID customerId,
+        CustomerType customerType,
+        LocalDate validFrom,
+        LocalDate validTo,
+        int priority,
+        @NotEmpty List<@Valid EntryRequest> entries
+    ) {}
+
+    public record EntryRequest(
+        @NotNull UUID productId,
+        @Min(1) Integer minQuantity,
+        @NotNull @DecimalMin("0.00") BigDecimal unitPrice
+    ) {}
+
+    public record PriceListResponse(
+        UUID id,
+        String name,
+        String currency,
+        UUID customerId,
+        String customerName,
+        CustomerType customerType,
+        LocalDate validFrom,
+        LocalDate validTo,
+        int priority,
+        List<EntryResponse> entries,
+        Instant updatedAt
+    ) {}
+
+    public record EntryResponse(
+        UUID id,
+        UUID productId,
+        String productSku,
+        int minQuantity,
+        BigDecimal unitPrice
+    ) {}
+
+    public record QuoteRequest(
+        @NotNull UUID customerId,
+        String currency,
+        LocalDate date,
+        @NotEmpty List<@Valid QuoteLine> items
+    ) {}
+
+    public record QuoteLine(
+        @NotNull UUID productId,
+        @NotNull @Min(1) Integer quantity
+    ) {}
+
+    public record QuotedLine(
+        UUID productId,
+        int quantity,
+        BigDecimal unitPrice,
+        Source source,
+        UUID priceListId
+    ) {}
+}
@@ -0,0 +1,24 @@
+package com.modus.backend.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class ProductSearchDTO {
+
+    // Higher rank is a better match
+    public record Hit(
+        UUID id,
+        String sku,
+        String name,
+        String description,
+        String unit,
+        BigDecimal unitPrice,
+        double rank
+    ) {}
+
+    public record Suggestion(
+        UUID id,
+        String sku,
+        String name
+    ) {}
+}
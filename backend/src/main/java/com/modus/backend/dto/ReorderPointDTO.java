@@ -0,0 +1,35 @@
+package com.modus.backend.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public class ReorderPointDTO {
+
+    // warehouseId null sets the product-wide reorder point
+    public record Request(
+        @NotNull UUID productId,
+        UUID warehouseId,
+        @NotNull @DecimalMin("0") BigDecimal threshold
+    ) {}
+
+    public record Response(
+        UUID id,
+        UUID productId,
+        UUID warehouseId,
+        String warehouseName,
+        BigDecimal threshold,
+        Instant updatedAt
+    ) {}
+
+    public record LowStockItem(
+        UUID productId,
+        String productName,
+        String sku,
+        UUID warehouseId,
+        BigDecimal quantity,
+        BigDecimal reorderPoint
+    ) {}
+}
@@ -1,18 +1,27 @@
 package com.modus.backend.dto;
 
+import com.modus.backend.domain.entity.ActivityType;
+
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class ReportDTO {
 
+    // A section that failed or timed out is null (lists are empty) and named in degradedSections
     public record DashboardData(
-        long totalProducts,
-        long totalCustomers,
-        long pendingDemands,
+        Long totalProducts,
+        Long totalCustomers,
+        Long pendingDemands,
+        String baseCurrency,
+        // Accepted offers converted to baseCurrency at today's FX rates
         BigDecimal totalAcceptedOfferValue,
+        Map<String, BigDecimal> acceptedOfferValueByCurrency,
+        BigDecimal inventoryValue,
         List<LowStockItem> lowStockItems,
-        List<RecentActivity> recentActivities
+        List<RecentActivity> recentActivities,
+        List<String> degradedSections
     ) {}
 
     public record LowStockItem(
@@ -23,7 +32,10 @@ public class ReportDTO {
     ) {}
 
     public record RecentActivity(
+        UUID id,
+        ActivityType type,
         String description,
+        UUID referenceId,
         String timestamp
     ) {}
 }
@@ -0,0 +1,11 @@
+package com.modus.backend.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// delta is the net change since the previous push for this product; quantity is the balance after it
+public record StockChangeResponse(
+    UUID productId,
+    BigDecimal delta,
+    BigDecimal quantity
+) {}
@@ -0,0 +1,38 @@
+package com.modus.backend.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public class StockImportDTO {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public record Status(
+        UUID id,
+        String fileName,
+        State state,
+        long linesRead,
+        long imported,
+        long rejected,
+        List<LineError> errors,
+        String failureReason,
+        Instant startedAt,
+        Instant finishedAt
+    ) {}
+
+    public record LineError(
+        long line,
+        String message
+    ) {}
+}
@@ -0,0 +1,10 @@
+package com.modus.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record StockMovementDocumentRequest(
+    String note,
+    @NotEmpty @Size(max = 5000) List<StockMovementRequest> movements
+) {}
@@ -9,5 +9,6 @@ public record StockMovementRequest(
     UUID warehouseId,
     StockMovementType type,
     BigDecimal quantity,
+    BigDecimal unitCost,
     String note
 ) {}
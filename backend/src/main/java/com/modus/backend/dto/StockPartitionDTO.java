@@ -0,0 +1,26 @@
+package com.modus.backend.dto;
+
+import java.time.Instant;
+
+public class StockPartitionDTO {
+
+    public record Partition(
+        String name,
+        Instant rangeStart,
+        Instant rangeEnd,
+        long estimatedRows,
+        long totalBytes,
+        boolean cold,
+        boolean brinIndexed
+    ) {}
+
+    public record Archive(
+        String partitionName,
+        Instant rangeStart,
+        Instant rangeEnd,
+        long rowCount,
+        String archiveSchema,
+        Instant ledgerFloor,
+        Instant detachedAt
+    ) {}
+}
@@ -0,0 +1,12 @@
+package com.modus.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record StockTrendPoint(
+    LocalDate day,
+    BigDecimal openingQuantity,
+    BigDecimal inQuantity,
+    BigDecimal outQuantity,
+    BigDecimal closingQuantity
+) {}
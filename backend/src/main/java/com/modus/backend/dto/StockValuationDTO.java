@@ -0,0 +1,48 @@
+package com.modus.backend.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public class StockValuationDTO {
+
+    public enum Method {
+        AVERAGE,
+        FIFO
+    }
+
+    public record Line(
+        UUID productId,
+        String productName,
+        String sku,
+        BigDecimal quantity,
+        BigDecimal unitCost,
+        BigDecimal value
+    ) {}
+
+    public record Report(
+        Method method,
+        UUID warehouseId,
+        BigDecimal totalValue,
+        List<Line> lines
+    ) {}
+
+    public record Mismatch(
+        UUID productId,
+        UUID warehouseId,
+        BigDecimal storedQuantity,
+        BigDecimal recomputedQuantity,
+        BigDecimal storedAverageValue,
+        BigDecimal recomputedAverageValue,
+        BigDecimal storedFifoValue,
+        BigDecimal recomputedFifoValue
+    ) {}
+
+    public record Audit(
+        int productsChecked,
+        int mismatchCount,
+        List<Mismatch> mismatches,
+        boolean applied,
+        long durationMs
+    ) {}
+}
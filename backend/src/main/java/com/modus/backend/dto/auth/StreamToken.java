@@ -0,0 +1,9 @@
+package com.modus.backend.dto.auth;
+
+import java.time.Instant;
+
+// Short-lived token for /api/v1/stock/stream, passed as the access_token query parameter
+public record StreamToken(
+    String token,
+    Instant expiresAt
+) {}
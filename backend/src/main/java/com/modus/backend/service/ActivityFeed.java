@@ -0,0 +1,260 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.ActivityType;
+import com.modus.backend.domain.event.CustomerCreatedEvent;
+import com.modus.backend.domain.event.DemandStatusChangedEvent;
+import com.modus.backend.domain.event.OfferStatusChangedEvent;
+import com.modus.backend.domain.event.StockDocumentRecordedEvent;
+import com.modus.backend.domain.event.StockMovementRecordedEvent;
+import com.modus.backend.domain.event.StockTransferredEvent;
+import com.modus.backend.dto.ReportDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Recent activity: the latest entries live in a lock-free ring buffer that the dashboard reads directly.
+// Entries are also queued for the activities table and written in batches off the request threads. Every read
+// orders by (occurredAt, id) like the table, so a cursor taken from one page seeks the next one exactly.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityFeed {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    // PostgreSQL orders uuids like their lowercase text form
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator
+            .comparing(Entry::occurredAt)
+            .thenComparing(entry -> entry.id().toString())
+            .reversed();
+    private static final RowMapper<Entry> ENTRY_MAPPER = (rs, rowNum) -> new Entry(
+            rs.getObject("id", UUID.class),
+            ActivityType.valueOf(rs.getString("type")),
+            rs.getString("description"),
+            rs.getObject("reference_id", UUID.class),
+            rs.getObject("occurred_at", OffsetDateTime.class).toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.activity.buffer-size:256}")
+    private int bufferSize;
+
+    // Beyond this many unpersisted entries new ones only reach the ring buffer
+    @Value("${application.activity.max-pending:10000}")
+    private int maxPending;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private AtomicReferenceArray<Slot> ring;
+    private int mask;
+    private Counter dropped;
+
+    @PostConstruct
+    void load() {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        ring = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+
+        List<Entry> latest = jdbcTemplate.query(
+                "SELECT id, type, description, reference_id, occurred_at FROM activities ORDER BY occurred_at DESC, id DESC LIMIT ?",
+                ENTRY_MAPPER, capacity);
+        for (int i = latest.size() - 1; i >= 0; i--) {
+            append(latest.get(i));
+        }
+
+        dropped = Counter.builder("activity.feed.dropped")
+                .description("Activity entries not persisted because the write queue was full")
+                .register(meterRegistry);
+        Gauge.builder("activity.feed.pending", pendingCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // Newest first by (occurredAt, id), the table's order. Entries are appended in commit order, which can differ
+    // from the order they were stamped in, so the ring is sorted before the page is cut.
+    public List<ReportDTO.RecentActivity> getRecent(int limit) {
+        return newestFirst(ringEntries(), limit);
+    }
+
+    // Older pages read the table merged with the entries still in memory, so entries waiting for a flush are not
+    // skipped. The id breaks ties so entries sharing the boundary timestamp are not skipped either.
+    public List<ReportDTO.RecentActivity> getBefore(Instant beforeOccurredAt, UUID beforeId, int limit) {
+        Entry boundary = new Entry(beforeId, null, null, null, beforeOccurredAt);
+        List<Entry> candidates = new ArrayList<>(jdbcTemplate.query(
+                "SELECT id, type, description, reference_id, occurred_at FROM activities " +
+                "WHERE (occurred_at, id) < (?, ?) ORDER BY occurred_at DESC, id DESC LIMIT ?",
+                ENTRY_MAPPER, beforeOccurredAt.atOffset(ZoneOffset.UTC), beforeId, limit));
+        candidates.addAll(ringEntries());
+        candidates.addAll(pending);
+        return newestFirst(candidates.stream().filter(e -> NEWEST_FIRST.compare(e, boundary) > 0).toList(), limit);
+    }
+
+    @TransactionalEventListener
+    public void onStockMovementRecorded(StockMovementRecordedEvent event) {
+        record(ActivityType.STOCK_MOVEMENT,
+               "Stock " + event.type() + " of " + format(event.quantity()) + " " + event.sku() + " at " + event.warehouseName(),
+               event.movementId(), event.occurredAt());
+    }
+
+    @TransactionalEventListener
+    public void onStockTransferred(StockTransferredEvent event) {
+        record(ActivityType.STOCK_TRANSFER,
+               "Transferred " + format(event.quantity()) + " " + event.sku() + " from " + event.sourceWarehouseName() + " to " + event.targetWarehouseName(),
+               event.transferGroupId(), event.occurredAt());
+    }
+
+    @TransactionalEventListener
+    public void onStockDocumentRecorded(StockDocumentRecordedEvent event) {
+        String note = event.note() != null && !event.note().isBlank() ? ": " + event.note() : "";
+        record(ActivityType.STOCK_DOCUMENT, "Stock document with " + event.lines() + " lines recorded" + note, null, event.occurredAt());
+    }
+
+    @TransactionalEventListener
+    public void onOfferStatusChanged(OfferStatusChangedEvent event) {
+        String amount = " (" + format(event.totalAmount()) + " " + event.currency() + ")";
+        String description = event.previousStatus() == null
+                ? "Offer created for " + event.customerName() + amount
+                : "Offer for " + event.customerName() + " moved from " + event.previousStatus() + " to " + event.status() + amount;
+        record(ActivityType.OFFER_STATUS, description, event.offerId(), event.occurredAt());
+    }
+
+    @TransactionalEventListener
+    public void onDemandStatusChanged(DemandStatusChangedEvent event) {
+        String description = event.previousStatus() == null
+                ? "Demand '" + event.title() + "' created"
+                : "Demand '" + event.title() + "' moved from " + event.previousStatus() + " to " + event.status();
+        record(ActivityType.DEMAND_STATUS, description, event.demandId(), event.occurredAt());
+    }
+
+    @TransactionalEventListener
+    public void onCustomerCreated(CustomerCreatedEvent event) {
+        record(ActivityType.CUSTOMER_CREATED, "New customer " + event.name(), event.customerId(), event.occurredAt());
+    }
+
+    @Scheduled(fixedDelayString = "${application.activity.flush-interval:PT1S}")
+    public void flush() {
+        List<Entry> batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+        while (true) {
+            Entry entry;
+            while (batch.size() < FLUSH_BATCH_SIZE && (entry = pending.poll()) != null) {
+                batch.add(entry);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO activities (id, type, description, reference_id, occurred_at) VALUES (?, ?, ?, ?, ?) " +
+                        "ON CONFLICT (id) DO NOTHING",
+                        batch,
+                        batch.size(),
+                        (ps, e) -> {
+                            ps.setObject(1, e.id());
+                            ps.setString(2, e.type().name());
+                            ps.setString(3, e.description());
+                            ps.setObject(4, e.referenceId());
+                            ps.setObject(5, e.occurredAt().atOffset(ZoneOffset.UTC));
+                        });
+                pendingCount.addAndGet(-batch.size());
+            } catch (RuntimeException e) {
+                // Requeued for the next run; the insert is idempotent on id
+                pending.addAll(batch);
+                log.warn("Activity Flush Failed: Entries={}", batch.size(), e);
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void record(ActivityType type, String description, UUID referenceId, Instant occurredAt) {
+        // At the table's precision, so a cursor taken from the ring buffer seeks the table exactly
+        Entry entry = new Entry(UUID.randomUUID(), type, description, referenceId, occurredAt.truncatedTo(ChronoUnit.MICROS));
+        append(entry);
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        pending.offer(entry);
+    }
+
+    private List<Entry> ringEntries() {
+        long end = sequence.get();
+        long start = Math.max(0, end - ring.length());
+        List<Entry> entries = new ArrayList<>((int) (end - start));
+        for (long seq = end - 1; seq >= start; seq--) {
+            Slot slot = ring.get((int) (seq & mask));
+            // A slot still being written, or already overwritten by a newer entry, is skipped
+            if (slot != null && slot.sequence() == seq) {
+                entries.add(slot.entry());
+            }
+        }
+        return entries;
+    }
+
+    // An entry can sit in the ring, the write queue and the table at once; each id is returned once
+    private List<ReportDTO.RecentActivity> newestFirst(List<Entry> entries, int limit) {
+        Map<UUID, Entry> unique = new HashMap<>();
+        entries.forEach(entry -> unique.putIfAbsent(entry.id(), entry));
+        return unique.values().stream()
+                .sorted(NEWEST_FIRST)
+                .limit(limit)
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private void append(Entry entry) {
+        long seq = sequence.getAndIncrement();
+        ring.set((int) (seq & mask), new Slot(seq, entry));
+    }
+
+    private ReportDTO.RecentActivity toResponse(Entry entry) {
+        return new ReportDTO.RecentActivity(
+                entry.id(),
+                entry.type(),
+                entry.description(),
+                entry.referenceId(),
+                entry.occurredAt().toString()
+        );
+    }
+
+    private static String format(BigDecimal quantity) {
+        return quantity.stripTrailingZeros().toPlainString();
+    }
+
+    private record Entry(UUID id, ActivityType type, String description, UUID referenceId, Instant occurredAt) {}
+
+    private record Slot(long sequence, Entry entry) {}
+}
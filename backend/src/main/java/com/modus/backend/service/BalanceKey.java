@@ -0,0 +1,24 @@
+package com.modus.backend.service;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+// (product, warehouse) key of a stock balance; the natural order is the row lock order. UUIDs compare as unsigned
+// bytes, as PostgreSQL orders them, so keys sorted here lock in the same order as an ORDER BY ... FOR UPDATE.
+record BalanceKey(UUID productId, UUID warehouseId) implements Comparable<BalanceKey> {
+
+    // UUID.compareTo compares the halves as signed longs, which disagrees for about half of all random pairs
+    private static final Comparator<UUID> UNSIGNED = (a, b) -> {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    private static final Comparator<BalanceKey> LOCK_ORDER = Comparator
+            .comparing(BalanceKey::productId, UNSIGNED)
+            .thenComparing(BalanceKey::warehouseId, UNSIGNED);
+
+    @Override
+    public int compareTo(BalanceKey other) {
+        return LOCK_ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,199 @@
+package com.modus.backend.service;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+// Open-addressing hash table from (product, warehouse) to a fixed-point quantity, stored in flat primitive arrays.
+// Writers are serialized by a StampedLock; point reads are optimistic and never block.
+final class BalanceTable {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Slots slots;
+    private int size;
+
+    BalanceTable(int expectedEntries) {
+        this.slots = new Slots(capacityFor(expectedEntries));
+    }
+
+    long get(UUID productId, UUID warehouseId) {
+        long stamp = lock.tryOptimisticRead();
+        long value = find(slots, productId, warehouseId);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(slots, productId, warehouseId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    void add(UUID productId, UUID warehouseId, long delta) {
+        long stamp = lock.writeLock();
+        try {
+            int index = slotFor(productId, warehouseId);
+            slots.values[index] += delta;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void put(UUID productId, UUID warehouseId, long value) {
+        long stamp = lock.writeLock();
+        try {
+            int index = slotFor(productId, warehouseId);
+            slots.values[index] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    void forEach(EntryConsumer consumer) {
+        long stamp = lock.readLock();
+        try {
+            Slots current = slots;
+            for (int i = 0; i < current.used.length; i++) {
+                if (current.used[i]) {
+                    int k = i * 4;
+                    consumer.accept(
+                            new UUID(current.keys[k], current.keys[k + 1]),
+                            new UUID(current.keys[k + 2], current.keys[k + 3]),
+                            current.values[i]);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    void forEachInWarehouse(UUID warehouseId, EntryConsumer consumer) {
+        long msb = warehouseId.getMostSignificantBits();
+        long lsb = warehouseId.getLeastSignificantBits();
+        long stamp = lock.readLock();
+        try {
+            Slots current = slots;
+            for (int i = 0; i < current.used.length; i++) {
+                int k = i * 4;
+                if (current.used[i] && current.keys[k + 2] == msb && current.keys[k + 3] == lsb) {
+                    consumer.accept(new UUID(current.keys[k], current.keys[k + 1]), warehouseId, current.values[i]);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Must be called under the write lock; returns the slot index, inserting the key if absent
+    private int slotFor(UUID productId, UUID warehouseId) {
+        if (size + 1 > slots.used.length * LOAD_FACTOR) {
+            resize();
+        }
+        Slots current = slots;
+        long pm = productId.getMostSignificantBits();
+        long pl = productId.getLeastSignificantBits();
+        long wm = warehouseId.getMostSignificantBits();
+        long wl = warehouseId.getLeastSignificantBits();
+        int mask = current.used.length - 1;
+        int index = hash(pm, pl, wm, wl) & mask;
+        while (current.used[index]) {
+            int k = index * 4;
+            if (current.keys[k] == pm && current.keys[k + 1] == pl && current.keys[k + 2] == wm && current.keys[k + 3] == wl) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        int k = index * 4;
+        current.keys[k] = pm;
+        current.keys[k + 1] = pl;
+        current.keys[k + 2] = wm;
+        current.keys[k + 3] = wl;
+        current.used[index] = true;
+        size++;
+        return index;
+    }
+
+    private void resize() {
+        Slots old = slots;
+        Slots grown = new Slots(old.used.length * 2);
+        int mask = grown.used.length - 1;
+        for (int i = 0; i < old.used.length; i++) {
+            if (!old.used[i]) {
+                continue;
+            }
+            int k = i * 4;
+            int index = hash(old.keys[k], old.keys[k + 1], old.keys[k + 2], old.keys[k + 3]) & mask;
+            while (grown.used[index]) {
+                index = (index + 1) & mask;
+            }
+            System.arraycopy(old.keys, k, grown.keys, index * 4, 4);
+            grown.values[index] = old.values[i];
+            grown.used[index] = true;
+        }
+        slots = grown;
+    }
+
+    // Optimistic readers may see a table mid-write, so the probe is bounded and the caller re-validates
+    private static long find(Slots current, UUID productId, UUID warehouseId) {
+        long pm = productId.getMostSignificantBits();
+        long pl = productId.getLeastSignificantBits();
+        long wm = warehouseId.getMostSignificantBits();
+        long wl = warehouseId.getLeastSignificantBits();
+        int capacity = current.used.length;
+        int mask = capacity - 1;
+        int index = hash(pm, pl, wm, wl) & mask;
+        for (int probes = 0; probes < capacity && current.used[index]; probes++) {
+            int k = index * 4;
+            if (current.keys[k] == pm && current.keys[k + 1] == pl && current.keys[k + 2] == wm && current.keys[k + 3] == wl) {
+                return current.values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return 0L;
+    }
+
+    private static int hash(long pm, long pl, long wm, long wl) {
+        long h = pm * 0x9E3779B97F4A7C15L;
+        h = (h ^ pl) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ wm) * 0x94D049BB133111EBL;
+        h = (h ^ wl) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 31;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int capacityFor(int expectedEntries) {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedEntries) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static final class Slots {
+        private final long[] keys;
+        private final long[] values;
+        private final boolean[] used;
+
+        private Slots(int capacity) {
+            this.keys = new long[capacity * 4];
+            this.values = new long[capacity];
+            this.used = new boolean[capacity];
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(UUID productId, UUID warehouseId, long value);
+    }
+}
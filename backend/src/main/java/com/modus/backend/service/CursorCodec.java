@@ -0,0 +1,33 @@
+package com.modus.backend.service;
+
+import com.modus.backend.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque keyset cursors: the sort key values of the last returned row, base64url encoded
+final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    static String encode(String... values) {
+        String raw = String.join(SEPARATOR, values);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decode(String cursor, int expectedValues) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split("\\|", expectedValues);
+            if (values.length != expectedValues) {
+                throw new BusinessException("Invalid cursor");
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+}
@@ -1,29 +1,57 @@
 package com.modus.backend.service;
 
 import com.modus.backend.domain.entity.Customer;
+import com.modus.backend.domain.entity.CustomerType;
+import com.modus.backend.domain.event.CustomerCreatedEvent;
+import com.modus.backend.domain.event.CustomerDeletedEvent;
 import com.modus.backend.domain.repository.CustomerRepository;
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.CustomerRequest;
 import com.modus.backend.dto.CustomerResponse;
 import com.modus.backend.exception.BusinessException;
 import com.modus.backend.exception.ResourceNotFoundException;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CustomerService {
 
+    private static final Map<String, SortField<Customer>> SORT_FIELDS = Map.of(
+            "name", SortField.ofString("name", Customer::getName),
+            "createdAt", SortField.ofDateTime("createdAt", Customer::getCreatedAt).orNull()
+    );
+
     private final CustomerRepository customerRepository;
+    private final KeysetPager keysetPager;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<CustomerResponse> getAllCustomers() {
-        return customerRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<CustomerResponse> getCustomers(String q, CustomerType type, String sort, String cursor, int limit) {
+        Specification<Customer> filter = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (q != null && !q.isBlank()) {
+                String pattern = "%" + q.trim().toLowerCase(Locale.ROOT) + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("name")), pattern),
+                        cb.like(cb.lower(root.get("email")), pattern)));
+            }
+            if (type != null) {
+                predicates.add(cb.equal(root.get("type"), type));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+        return keysetPager.page(Customer.class, filter, SORT_FIELDS, Customer::getId, sort, cursor, limit, this::mapToResponse);
     }
 
     public CustomerResponse getCustomer(UUID id) {
@@ -47,7 +75,9 @@ public class CustomerService {
                 .type(request.type())
                 .build();
 
-        return mapToResponse(customerRepository.save(customer));
+        Customer saved = customerRepository.save(customer);
+        eventPublisher.publishEvent(new CustomerCreatedEvent(saved.getId(), saved.getName(), Instant.now()));
+        return mapToResponse(saved);
     }
 
     @Transactional
@@ -75,6 +105,7 @@ public class CustomerService {
             throw new ResourceNotFoundException("Customer not found with id: " + id);
         }
         customerRepository.deleteById(id);
+        eventPublisher.publishEvent(new CustomerDeletedEvent(id, Instant.now()));
     }
 
     private CustomerResponse mapToResponse(Customer customer) {
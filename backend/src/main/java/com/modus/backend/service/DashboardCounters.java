@@ -0,0 +1,127 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.DemandStatus;
+import com.modus.backend.domain.event.CustomerCreatedEvent;
+import com.modus.backend.domain.event.CustomerDeletedEvent;
+import com.modus.backend.domain.event.DemandStatusChangedEvent;
+import com.modus.backend.domain.event.ProductCreatedEvent;
+import com.modus.backend.domain.repository.CustomerRepository;
+import com.modus.backend.domain.repository.DemandRepository;
+import com.modus.backend.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Dashboard totals kept in memory and moved by committed domain events, so reading them costs no query.
+// Reconciliation recounts from the database and fixes a difference once it has persisted across two runs.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardCounters {
+
+    private final ProductRepository productRepository;
+    private final CustomerRepository customerRepository;
+    private final DemandRepository demandRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong totalProducts = new AtomicLong();
+    private final AtomicLong totalCustomers = new AtomicLong();
+    private final AtomicLong pendingDemands = new AtomicLong();
+
+    private Snapshot previousDrift;
+    private Counter corrections;
+
+    @PostConstruct
+    void load() {
+        Snapshot counted = count();
+        totalProducts.set(counted.totalProducts());
+        totalCustomers.set(counted.totalCustomers());
+        pendingDemands.set(counted.pendingDemands());
+        corrections = Counter.builder("reports.counters.corrections")
+                .description("Dashboard counter drifts corrected by reconciliation")
+                .register(meterRegistry);
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(totalProducts.get(), totalCustomers.get(), pendingDemands.get());
+    }
+
+    @TransactionalEventListener
+    public void onProductCreated(ProductCreatedEvent event) {
+        totalProducts.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onCustomerCreated(CustomerCreatedEvent event) {
+        totalCustomers.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onCustomerDeleted(CustomerDeletedEvent event) {
+        totalCustomers.decrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onDemandStatusChanged(DemandStatusChangedEvent event) {
+        if (event.previousStatus() == DemandStatus.PENDING) {
+            pendingDemands.decrementAndGet();
+        }
+        if (event.status() == DemandStatus.PENDING) {
+            pendingDemands.incrementAndGet();
+        }
+    }
+
+    // A count taken while an event is between commit and listener differs once; only a repeated drift is real
+    @Scheduled(fixedDelayString = "${application.reports.counters.reconcile-interval:PT10M}",
+               initialDelayString = "${application.reports.counters.reconcile-interval:PT10M}")
+    public void reconcile() {
+        Snapshot counted = count();
+        Snapshot current = snapshot();
+        Snapshot drift = new Snapshot(
+                counted.totalProducts() - current.totalProducts(),
+                counted.totalCustomers() - current.totalCustomers(),
+                counted.pendingDemands() - current.pendingDemands()
+        );
+
+        if (drift.isZero()) {
+            previousDrift = null;
+            return;
+        }
+        if (drift.equals(previousDrift)) {
+            totalProducts.addAndGet(drift.totalProducts());
+            totalCustomers.addAndGet(drift.totalCustomers());
+            pendingDemands.addAndGet(drift.pendingDemands());
+            corrections.increment();
+            log.warn("Dashboard Counters Corrected: Drift={}", drift);
+            previousDrift = null;
+            return;
+        }
+        previousDrift = drift;
+    }
+
+    private Snapshot count() {
+        return new Snapshot(
+                productRepository.count(),
+                customerRepository.count(),
+                demandRepository.countByStatus(DemandStatus.PENDING)
+        );
+    }
+
+    public record Snapshot(
+        long totalProducts,
+        long totalCustomers,
+        long pendingDemands
+    ) {
+
+        boolean isZero() {
+            return totalProducts == 0 && totalCustomers == 0 && pendingDemands == 0;
+        }
+    }
+}
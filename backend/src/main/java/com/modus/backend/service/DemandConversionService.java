@@ -0,0 +1,120 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.Customer;
+import com.modus.backend.domain.entity.Demand;
+import com.modus.backend.domain.entity.DemandItem;
+import com.modus.backend.domain.entity.DemandStatus;
+import com.modus.backend.domain.entity.Offer;
+import com.modus.backend.domain.entity.Product;
+import com.modus.backend.domain.repository.CustomerRepository;
+import com.modus.backend.domain.repository.DemandRepository;
+import com.modus.backend.dto.DemandDTO;
+import com.modus.backend.dto.OfferDTO;
+import com.modus.backend.exception.BusinessException;
+import com.modus.backend.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Converts PENDING demands into DRAFT offers on the server. Demands are processed in chunks, each chunk in one
+// transaction: the demands are locked, their items and products come in batched loads, and every converted demand
+// is marked PROCESSED together with its new offer. A demand that cannot be converted is reported and skipped.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DemandConversionService {
+
+    private static final int MAX_DEMANDS = 1000;
+    private static final int CHUNK_SIZE = 100;
+
+    private final DemandRepository demandRepository;
+    private final CustomerRepository customerRepository;
+    private final OfferService offerService;
+    private final DemandService demandService;
+    private final TransactionTemplate transactionTemplate;
+
+    public DemandDTO.ConversionResult convert(DemandDTO.ConversionRequest request) {
+        Customer customer = customerRepository.findById(request.customerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Customer not found: " + request.customerId()));
+
+        List<UUID> demandIds;
+        if (request.demandIds() != null && !request.demandIds().isEmpty()) {
+            demandIds = request.demandIds().stream().filter(Objects::nonNull).distinct().toList();
+            if (demandIds.size() > MAX_DEMANDS) {
+                throw new BusinessException("At most " + MAX_DEMANDS + " demands can be converted per request");
+            }
+        } else {
+            demandIds = demandRepository.findIdsByStatusAndPriority(DemandStatus.PENDING, request.priority(), PageRequest.of(0, MAX_DEMANDS));
+        }
+
+        List<DemandDTO.ConversionItemResult> results = new ArrayList<>(demandIds.size());
+        for (int from = 0; from < demandIds.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = demandIds.subList(from, Math.min(from + CHUNK_SIZE, demandIds.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> convertChunk(chunk, customer, request)));
+            } catch (DataAccessException e) {
+                // The chunk rolled back as a whole, including demands that had been converted in it
+                log.warn("Demand Conversion Chunk Failed: Demands={}", chunk.size(), e);
+                String error = "Could not save chunk: " + e.getMostSpecificCause().getMessage();
+                chunk.forEach(id -> results.add(new DemandDTO.ConversionItemResult(id, null, error)));
+            }
+        }
+
+        int converted = (int) results.stream().filter(r -> r.offerId() != null).count();
+        log.info("Demands Converted: Requested={}, Converted={}, Failed={}", demandIds.size(), converted, results.size() - converted);
+        return new DemandDTO.ConversionResult(converted, results.size() - converted, results);
+    }
+
+    private List<DemandDTO.ConversionItemResult> convertChunk(List<UUID> chunk, Customer customer, DemandDTO.ConversionRequest request) {
+        Map<UUID, Demand> demands = demandRepository.lockAllByIdIn(chunk).stream()
+                .collect(Collectors.toMap(Demand::getId, Function.identity()));
+        // Touching the items loads them (and their products) for the whole chunk in batches
+        Map<UUID, Product> products = demands.values().stream()
+                .flatMap(d -> d.getItems().stream())
+                .map(DemandItem::getProduct)
+                .collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> a));
+
+        List<DemandDTO.ConversionItemResult> results = new ArrayList<>(chunk.size());
+        for (UUID demandId : chunk) {
+            Demand demand = demands.get(demandId);
+            try {
+                if (demand == null) {
+                    throw new ResourceNotFoundException("Demand not found: " + demandId);
+                }
+                if (demand.getStatus() != DemandStatus.PENDING) {
+                    throw new BusinessException("Only PENDING demands can be converted (status is " + demand.getStatus() + ")");
+                }
+                if (demand.getItems().isEmpty()) {
+                    throw new BusinessException("Demand has no items");
+                }
+
+                OfferDTO.CreateRequest offerRequest = new OfferDTO.CreateRequest(
+                        demand.getId(),
+                        customer.getId(),
+                        request.validUntil(),
+                        request.currency(),
+                        demand.getItems().stream()
+                                .map(item -> new OfferDTO.ItemRequest(
+                                        item.getProduct().getId(),
+                                        item.getQuantity(),
+                                        null, // priced from the customer's price lists
+                                        BigDecimal.ZERO))
+                                .toList());
+                Offer offer = offerService.saveOffer(offerRequest, customer, demand, products);
+                demandService.changeStatus(demand, DemandStatus.PROCESSED);
+                results.add(new DemandDTO.ConversionItemResult(demandId, offer.getId(), null));
+            } catch (ResourceNotFoundException | BusinessException e) {
+                results.add(new DemandDTO.ConversionItemResult(demandId, null, e.getMessage()));
+            }
+        }
+        return results;
+    }
+}
@@ -1,38 +1,102 @@
 package com.modus.backend.service;
 
 import com.modus.backend.domain.entity.*;
+import com.modus.backend.domain.event.DemandStatusChangedEvent;
 import com.modus.backend.domain.repository.DemandRepository;
 import com.modus.backend.domain.repository.ProductRepository;
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.DemandDTO;
 import com.modus.backend.exception.BusinessException;
 import com.modus.backend.exception.ResourceNotFoundException;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DemandService {
 
+    private static final Map<String, SortField<Demand>> SORT_FIELDS = Map.of(
+            "createdAt", SortField.ofDateTime("createdAt", Demand::getCreatedAt).orNull(),
+            "title", SortField.ofString("title", Demand::getTitle)
+    );
+    private static final Map<String, SortField<DemandDTO.Summary>> SUMMARY_SORT_FIELDS = Map.of(
+            "createdAt", SortField.ofDateTime("createdAt", DemandDTO.Summary::createdAt).orNull(),
+            "title", SortField.ofString("title", DemandDTO.Summary::title)
+    );
+
     private final DemandRepository demandRepository;
     private final ProductRepository productRepository;
+    private final KeysetPager keysetPager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatusTransitions statusTransitions;
 
-    public List<DemandDTO.Response> getAllDemands() {
-        return demandRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    // Items and their products are loaded in batches for the whole page (hibernate.default_batch_fetch_size)
+    @Transactional(readOnly = true)
+    public CursorPage<DemandDTO.Response> getDemands(DemandStatus status, Priority priority,
+                                                     String sort, String cursor, int limit) {
+        return keysetPager.page(Demand.class, filter(status, priority), SORT_FIELDS, Demand::getId,
+                sort, cursor, limit, this::mapToResponse);
+    }
+
+    // One grouped query per page: demand columns, item count and total quantity
+    @Transactional(readOnly = true)
+    public CursorPage<DemandDTO.Summary> getDemandSummaries(DemandStatus status, Priority priority,
+                                                            String sort, String cursor, int limit) {
+        return keysetPager.page(Demand.class, DemandDTO.Summary.class, filter(status, priority),
+                (root, query, cb) -> {
+                    Join<Demand, DemandItem> items = root.join("items", JoinType.LEFT);
+                    query.groupBy(root.get("id"));
+                    return cb.construct(DemandDTO.Summary.class,
+                            root.get("id"),
+                            root.get("title"),
+                            root.get("requesterName"),
+                            root.get("status"),
+                            root.get("priority"),
+                            root.get("dueDate"),
+                            cb.count(items),
+                            cb.coalesce(cb.sumAsLong(items.get("quantity")), 0L),
+                            root.get("createdAt"));
+                },
+                SUMMARY_SORT_FIELDS, DemandDTO.Summary::id, sort, cursor, limit);
     }
 
+    @Transactional(readOnly = true)
     public DemandDTO.Response getDemand(UUID id) {
-        return demandRepository.findById(id)
+        return demandRepository.findDetailedById(id)
                 .map(this::mapToResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Demand not found: " + id));
     }
 
+    private Specification<Demand> filter(DemandStatus status, Priority priority) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (priority != null) {
+                predicates.add(cb.equal(root.get("priority"), priority));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
     @Transactional
     public DemandDTO.Response createDemand(DemandDTO.Request request) {
         Demand demand = Demand.builder()
@@ -44,10 +108,19 @@ public class DemandService {
                 .status(DemandStatus.DRAFT)
                 .build();
 
+        // One lookup for all lines instead of a findById per line
+        Map<UUID, Product> products = productRepository.findAllById(request.items().stream()
+                        .map(DemandDTO.ItemRequest::productId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
         List<DemandItem> items = request.items().stream().map(itemReq -> {
-            Product product = productRepository.findById(itemReq.productId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Product not found: " + itemReq.productId()));
-            
+            Product product = products.get(itemReq.productId());
+            if (product == null) {
+                throw new ResourceNotFoundException("Product not found: " + itemReq.productId());
+            }
+
             return DemandItem.builder()
                     .demand(demand)
                     .product(product)
@@ -57,24 +130,43 @@ public class DemandService {
         }).collect(Collectors.toList());
 
         demand.setItems(items);
-        return mapToResponse(demandRepository.save(demand));
+        // Items cascade as JDBC batches (client-side UUIDs, hibernate.jdbc.batch_size)
+        Demand saved = demandRepository.save(demand);
+        eventPublisher.publishEvent(new DemandStatusChangedEvent(saved.getId(), saved.getTitle(), null, saved.getStatus(), Instant.now()));
+        return mapToResponse(saved);
     }
 
+    // One guarded UPDATE instead of read, check and save
     @Transactional
-    public DemandDTO.Response updateStatus(UUID id, DemandStatus status) {
-        Demand demand = demandRepository.findById(id)
+    public DemandDTO.Response updateStatus(UUID id, DemandStatus status, Long version) {
+        DemandStatus previousStatus = statusTransitions.transition(
+                StatusTransitions.Table.DEMANDS, id, sourcesOf(status), status, version, DemandStatus.class);
+        Demand demand = demandRepository.findDetailedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Demand not found: " + id));
-        
-        // Simple state transition validation
-        if (demand.getStatus() == DemandStatus.CANCELLED) {
-             throw new BusinessException("Cannot update status of a CANCELLED demand.");
-        }
-        if (demand.getStatus() == DemandStatus.PROCESSED && status != DemandStatus.CANCELLED) {
-             throw new BusinessException("Cannot update status of a PROCESSED demand (unless cancelling).");
+        if (previousStatus != status) {
+            eventPublisher.publishEvent(new DemandStatusChangedEvent(demand.getId(), demand.getTitle(), previousStatus, status, Instant.now()));
         }
+        return mapToResponse(demand);
+    }
 
+    // For the bulk conversion, which holds the demand locked; the caller's transaction persists the change
+    void changeStatus(Demand demand, DemandStatus status) {
+        DemandStatus previousStatus = demand.getStatus();
+        if (previousStatus == status) {
+            return;
+        }
+        if (!sourcesOf(status).contains(previousStatus)) {
+            throw new BusinessException("Cannot change status of demand from " + previousStatus + " to " + status);
+        }
         demand.setStatus(status);
-        return mapToResponse(demandRepository.save(demand));
+        eventPublisher.publishEvent(new DemandStatusChangedEvent(demand.getId(), demand.getTitle(), previousStatus, status, Instant.now()));
+    }
+
+    // CANCELLED is final; PROCESSED can only be cancelled
+    private static Set<DemandStatus> sourcesOf(DemandStatus target) {
+        return target == DemandStatus.CANCELLED
+                ? EnumSet.of(DemandStatus.DRAFT, DemandStatus.PENDING, DemandStatus.PROCESSED)
+                : EnumSet.of(DemandStatus.DRAFT, DemandStatus.PENDING);
     }
 
     private DemandDTO.Response mapToResponse(Demand demand) {
@@ -98,7 +190,8 @@ public class DemandService {
                 demand.getPriority(),
                 demand.getDueDate(),
                 itemResponses,
-                demand.getCreatedAt()
+                demand.getCreatedAt(),
+                demand.getVersion()
         );
     }
 }
@@ -0,0 +1,101 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.event.FxRatesChangedEvent;
+import com.modus.backend.dto.FxRateDTO;
+import com.modus.backend.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+
+// FX rates held in memory as one date-sorted table per currency, so a conversion is a floor lookup and costs no
+// query. The table is reloaded after each committed change and on a schedule for changes made on other instances.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FxRateService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${application.fx.base-currency:USD}")
+    private String baseCurrency;
+
+    private volatile Map<String, NavigableMap<LocalDate, BigDecimal>> rates = Map.of();
+
+    @PostConstruct
+    void load() {
+        reload();
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    // The rate effective on the date, or empty when the currency has no rate on or before it
+    public Optional<BigDecimal> rate(String currency, LocalDate date) {
+        if (baseCurrency.equals(currency)) {
+            return Optional.of(BigDecimal.ONE);
+        }
+        NavigableMap<LocalDate, BigDecimal> history = rates.get(currency);
+        if (history == null) {
+            return Optional.empty();
+        }
+        Map.Entry<LocalDate, BigDecimal> effective = history.floorEntry(date);
+        return effective != null ? Optional.of(effective.getValue()) : Optional.empty();
+    }
+
+    public Optional<BigDecimal> toBase(BigDecimal amount, String currency, LocalDate date) {
+        return rate(currency, date).map(rate -> amount.multiply(rate).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    public List<FxRateDTO.Rate> getRates() {
+        List<FxRateDTO.Rate> result = new ArrayList<>();
+        rates.forEach((currency, history) -> history.forEach((date, rate) -> result.add(new FxRateDTO.Rate(currency, date, rate))));
+        result.sort(Comparator.comparing(FxRateDTO.Rate::currency).thenComparing(FxRateDTO.Rate::effectiveDate));
+        return result;
+    }
+
+    @Transactional
+    public FxRateDTO.Rate setRate(FxRateDTO.RateRequest request) {
+        if (baseCurrency.equals(request.currency())) {
+            throw new BusinessException("The base currency " + baseCurrency + " always has rate 1");
+        }
+        jdbcTemplate.update(
+                "INSERT INTO fx_rates (currency, effective_date, rate) VALUES (?, ?, ?) " +
+                "ON CONFLICT (currency, effective_date) DO UPDATE SET rate = EXCLUDED.rate, updated_at = now()",
+                request.currency(), request.effectiveDate(), request.rate());
+        eventPublisher.publishEvent(new FxRatesChangedEvent(request.currency()));
+        log.info("FX Rate Set: Currency={}, EffectiveDate={}, Rate={}", request.currency(), request.effectiveDate(), request.rate());
+        return new FxRateDTO.Rate(request.currency(), request.effectiveDate(), request.rate());
+    }
+
+    @TransactionalEventListener
+    public void onFxRatesChanged(FxRatesChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${application.fx.refresh-interval:PT5M}",
+               initialDelayString = "${application.fx.refresh-interval:PT5M}")
+    public void reload() {
+        Map<String, NavigableMap<LocalDate, BigDecimal>> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT currency, effective_date, rate FROM fx_rates", rs -> {
+            loaded.computeIfAbsent(rs.getString("currency"), c -> new TreeMap<>())
+                    .put(rs.getDate("effective_date").toLocalDate(), rs.getBigDecimal("rate"));
+        });
+        Map<String, NavigableMap<LocalDate, BigDecimal>> table = new HashMap<>();
+        loaded.forEach((currency, history) -> table.put(currency, Collections.unmodifiableNavigableMap(history)));
+        rates = table;
+    }
+}
@@ -0,0 +1,429 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.StockMovementType;
+import com.modus.backend.domain.event.LedgerDetachingEvent;
+import com.modus.backend.dto.StockValuationDTO;
+import com.modus.backend.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// Inventory valuation per (product, warehouse), kept current by every movement in the movement's own transaction,
+// so reports read stock_valuations instead of replaying the ledger. The audit replays the ledger per product,
+// in parallel, through the same ValuationState rules and reports (or corrects) any row that disagrees. Once
+// partitions are detached it starts from the valuation checkpoint taken at the ledger floor.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryValuationService {
+
+    private static final int MAX_REPORTED_MISMATCHES = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final StockPartitionService stockPartitionService;
+
+    @Value("${application.stock.valuation.recompute-parallelism:4}")
+    private int recomputeParallelism;
+
+    private final AtomicBoolean recomputing = new AtomicBoolean();
+    private ExecutorService recomputeExecutor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        recomputeExecutor = Executors.newFixedThreadPool(recomputeParallelism, r -> {
+            Thread thread = new Thread(r, "stock-valuation-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        recomputeExecutor.shutdownNow();
+    }
+
+    // Called by movement writers after the balance rows are updated, so the rows for these keys are already locked.
+    // Lines are applied in order; a TRANSFER_IN takes over the cost of the TRANSFER_OUT with the same group before it.
+    void apply(List<Line> lines) {
+        Replay replay = new Replay(this::load);
+        lines.forEach(replay::apply);
+        replay.states.forEach(this::save);
+    }
+
+    public StockValuationDTO.Report getReport(UUID warehouseId, StockValuationDTO.Method method) {
+        StockValuationDTO.Method resolvedMethod = method != null ? method : StockValuationDTO.Method.AVERAGE;
+        String valueColumn = resolvedMethod == StockValuationDTO.Method.FIFO ? "fifo_value" : "average_value";
+        List<Object> params = new ArrayList<>();
+        String warehouseFilter = "";
+        if (warehouseId != null) {
+            warehouseFilter = "WHERE v.warehouse_id = ? ";
+            params.add(warehouseId);
+        }
+
+        List<StockValuationDTO.Line> lines = jdbcTemplate.query(
+                "SELECT p.id, p.name, p.sku, SUM(v.quantity) AS quantity, SUM(v." + valueColumn + ") AS value " +
+                "FROM stock_valuations v JOIN products p ON p.id = v.product_id " +
+                warehouseFilter +
+                "GROUP BY p.id, p.name, p.sku " +
+                "HAVING SUM(v.quantity) <> 0 OR SUM(v." + valueColumn + ") <> 0 " +
+                "ORDER BY p.name",
+                (rs, rowNum) -> {
+                    BigDecimal quantity = rs.getBigDecimal("quantity");
+                    BigDecimal value = rs.getBigDecimal("value");
+                    return new StockValuationDTO.Line(
+                            rs.getObject("id", UUID.class),
+                            rs.getString("name"),
+                            rs.getString("sku"),
+                            quantity,
+                            quantity.signum() > 0 ? value.divide(quantity, ValuationState.VALUE_SCALE, RoundingMode.HALF_UP) : BigDecimal.ZERO,
+                            value);
+                },
+                params.toArray());
+
+        BigDecimal total = lines.stream().map(StockValuationDTO.Line::value).reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new StockValuationDTO.Report(resolvedMethod, warehouseId, total, lines);
+    }
+
+    public BigDecimal getTotalValue() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(average_value), 0) FROM stock_valuations", BigDecimal.class);
+    }
+
+    // Full recompute from the ledger, one task per product (transfers never cross products). Without apply the
+    // replay and the comparison read one consistent snapshot per product and nothing is written.
+    public StockValuationDTO.Audit recompute(Collection<UUID> productIds, boolean apply) {
+        Instant ledgerFloor = stockPartitionService.findLedgerFloor();
+        Instant checkpoint = findLatestCheckpoint();
+        if (ledgerFloor != null && !ledgerFloor.equals(checkpoint)) {
+            throw new BusinessException("Ledger before " + ledgerFloor + " was archived without a valuation checkpoint; " +
+                                        "valuations cannot be recomputed from the attached ledger");
+        }
+        if (!recomputing.compareAndSet(false, true)) {
+            throw new BusinessException("A valuation recompute is already running");
+        }
+        long started = System.nanoTime();
+        try {
+            List<UUID> products = productIds != null && !productIds.isEmpty()
+                    ? List.copyOf(productIds)
+                    : jdbcTemplate.queryForList("SELECT id FROM products ORDER BY id", UUID.class);
+
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            if (!apply) {
+                template.setReadOnly(true);
+                template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            }
+
+            List<Future<List<StockValuationDTO.Mismatch>>> futures = new ArrayList<>(products.size());
+            for (UUID productId : products) {
+                futures.add(recomputeExecutor.submit(() -> template.execute(status -> recomputeProduct(productId, checkpoint, apply))));
+            }
+
+            List<StockValuationDTO.Mismatch> mismatches = new ArrayList<>();
+            int mismatchCount = 0;
+            for (Future<List<StockValuationDTO.Mismatch>> future : futures) {
+                List<StockValuationDTO.Mismatch> productMismatches = future.get();
+                mismatchCount += productMismatches.size();
+                productMismatches.stream()
+                        .limit(Math.max(0, MAX_REPORTED_MISMATCHES - mismatches.size()))
+                        .forEach(mismatches::add);
+            }
+
+            long durationMs = (System.nanoTime() - started) / 1_000_000;
+            log.info("Stock Valuation Recomputed: Products={}, Mismatches={}, Applied={}, DurationMs={}",
+                     products.size(), mismatchCount, apply, durationMs);
+            return new StockValuationDTO.Audit(products.size(), mismatchCount, mismatches, apply, durationMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Valuation recompute interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } finally {
+            recomputing.set(false);
+        }
+    }
+
+    // Runs in the detach transaction before the partition leaves the ledger: every product is replayed from the
+    // previous checkpoint up to the new floor, and the result replaces that checkpoint
+    @EventListener
+    public void onLedgerDetaching(LedgerDetachingEvent event) {
+        Instant previous = findLatestCheckpoint();
+        if (event.previousLedgerFloor() != null && !event.previousLedgerFloor().equals(previous)) {
+            // Detached before checkpoints existed; the ledger before the old floor is gone, so none can be built
+            log.warn("Stock Valuation Checkpoint Skipped: Partition={}, PreviousFloor={}", event.partitionName(), event.previousLedgerFloor());
+            return;
+        }
+        long started = System.nanoTime();
+        List<UUID> products = jdbcTemplate.queryForList("SELECT id FROM products ORDER BY id", UUID.class);
+        int rows = 0;
+        for (UUID productId : products) {
+            Replay replay = replayProduct(productId, previous, event.ledgerFloor());
+            for (Map.Entry<BalanceKey, ValuationState> entry : replay.states().entrySet()) {
+                rows += saveCheckpoint(event.ledgerFloor(), entry.getKey(), entry.getValue());
+            }
+        }
+        if (previous != null) {
+            jdbcTemplate.update("DELETE FROM stock_valuation_checkpoints WHERE ledger_floor = ?", previous.atOffset(ZoneOffset.UTC));
+        }
+        log.info("Stock Valuation Checkpoint Taken: LedgerFloor={}, Previous={}, Rows={}, DurationMs={}",
+                 event.ledgerFloor(), previous, rows, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<StockValuationDTO.Mismatch> recomputeProduct(UUID productId, Instant checkpoint, boolean apply) {
+        if (apply) {
+            // Movement writers lock these rows first, so the ledger cannot grow for this product until commit.
+            // PostgreSQL's uuid order is BalanceKey's lock order, so this cannot deadlock with a writer.
+            jdbcTemplate.queryForList("SELECT warehouse_id FROM stock_balances WHERE product_id = ? ORDER BY warehouse_id FOR UPDATE",
+                    UUID.class, productId);
+        }
+
+        Replay replay = replayProduct(productId, checkpoint, null);
+
+        Map<UUID, BigDecimal[]> stored = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT warehouse_id, quantity, average_value, fifo_value FROM stock_valuations WHERE product_id = ?",
+                rs -> {
+                    stored.put(rs.getObject("warehouse_id", UUID.class), new BigDecimal[]{
+                            rs.getBigDecimal("quantity"), rs.getBigDecimal("average_value"), rs.getBigDecimal("fifo_value")});
+                },
+                productId);
+
+        List<StockValuationDTO.Mismatch> mismatches = new ArrayList<>();
+        Set<UUID> warehouses = new TreeSet<>(stored.keySet());
+        replay.states.keySet().forEach(key -> warehouses.add(key.warehouseId()));
+        for (UUID warehouseId : warehouses) {
+            ValuationState state = replay.states.getOrDefault(new BalanceKey(productId, warehouseId), ValuationState.empty());
+            BigDecimal[] row = stored.getOrDefault(warehouseId, new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+            BigDecimal fifoValue = state.fifoValue();
+            if (row[0].compareTo(state.quantity()) != 0
+                    || row[1].compareTo(state.averageValue()) != 0
+                    || row[2].compareTo(fifoValue) != 0) {
+                mismatches.add(new StockValuationDTO.Mismatch(productId, warehouseId,
+                        row[0], state.quantity(), row[1], state.averageValue(), row[2], fifoValue));
+            }
+        }
+
+        if (apply && !mismatches.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM stock_cost_layers WHERE product_id = ?", productId);
+            jdbcTemplate.update("UPDATE stock_valuations SET quantity = 0, average_value = 0, fifo_value = 0, updated_at = now() " +
+                                "WHERE product_id = ?", productId);
+            replay.states.forEach(this::save);
+            log.warn("Stock Valuation Corrected: Product={}, Warehouses={}", productId, mismatches.size());
+        }
+        return mismatches;
+    }
+
+    // The product's states at `from` (the checkpoint, or nothing) rolled forward through its movements in (from, to]
+    private Replay replayProduct(UUID productId, Instant from, Instant to) {
+        Replay replay = new Replay(key -> ValuationState.empty());
+        List<Object> params = new ArrayList<>();
+        params.add(productId);
+        String window = "";
+        if (from != null) {
+            loadCheckpoint(replay, productId, from);
+            window += "AND created_at > ? ";
+            params.add(from.atOffset(ZoneOffset.UTC));
+        }
+        if (to != null) {
+            window += "AND created_at <= ? ";
+            params.add(to.atOffset(ZoneOffset.UTC));
+        }
+        jdbcTemplate.query(
+                "SELECT warehouse_id, type, quantity, unit_cost, transfer_group_id, created_at FROM stock_movements " +
+                "WHERE product_id = ? " + window +
+                "ORDER BY created_at, CASE WHEN type = 'TRANSFER_OUT' THEN 0 ELSE 1 END, id",
+                rs -> {
+                    replay.apply(new Line(
+                            productId,
+                            rs.getObject("warehouse_id", UUID.class),
+                            StockMovementType.valueOf(rs.getString("type")),
+                            rs.getBigDecimal("quantity"),
+                            rs.getBigDecimal("unit_cost"),
+                            rs.getObject("transfer_group_id", UUID.class),
+                            rs.getObject("created_at", OffsetDateTime.class).toInstant()));
+                },
+                params.toArray());
+        return replay;
+    }
+
+    private Instant findLatestCheckpoint() {
+        OffsetDateTime at = jdbcTemplate.queryForObject("SELECT MAX(ledger_floor) FROM stock_valuation_checkpoints", OffsetDateTime.class);
+        return at != null ? at.toInstant() : null;
+    }
+
+    // Every checkpoint row is preloaded, so warehouses without later movements are still compared; layers come back
+    // as fresh ones because the live layers they stand for may since have been issued
+    private void loadCheckpoint(Replay replay, UUID productId, Instant at) {
+        Map<UUID, List<ValuationState.CostLayer>> layers = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT warehouse_id, received_at, quantity, unit_cost FROM stock_valuation_checkpoint_layers " +
+                "WHERE ledger_floor = ? AND product_id = ? ORDER BY warehouse_id, received_at",
+                rs -> {
+                    layers.computeIfAbsent(rs.getObject("warehouse_id", UUID.class), id -> new ArrayList<>())
+                            .add(new ValuationState.CostLayer(
+                                    UUID.randomUUID(),
+                                    rs.getObject("received_at", OffsetDateTime.class).toInstant(),
+                                    rs.getBigDecimal("quantity"),
+                                    rs.getBigDecimal("unit_cost"),
+                                    true));
+                },
+                at.atOffset(ZoneOffset.UTC), productId);
+        jdbcTemplate.query(
+                "SELECT warehouse_id, quantity, average_value FROM stock_valuation_checkpoints WHERE ledger_floor = ? AND product_id = ?",
+                rs -> {
+                    UUID warehouseId = rs.getObject("warehouse_id", UUID.class);
+                    replay.states().put(new BalanceKey(productId, warehouseId), new ValuationState(
+                            rs.getBigDecimal("quantity"), rs.getBigDecimal("average_value"), layers.getOrDefault(warehouseId, List.of())));
+                },
+                at.atOffset(ZoneOffset.UTC), productId);
+    }
+
+    private int saveCheckpoint(Instant at, BalanceKey key, ValuationState state) {
+        if (state.quantity().signum() == 0 && state.averageValue().signum() == 0 && state.layers().isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO stock_valuation_checkpoints (ledger_floor, product_id, warehouse_id, quantity, average_value) " +
+                "VALUES (?, ?, ?, ?, ?)",
+                at.atOffset(ZoneOffset.UTC), key.productId(), key.warehouseId(), state.quantity(), state.averageValue());
+        List<ValuationState.CostLayer> layers = state.layers();
+        if (!layers.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO stock_valuation_checkpoint_layers (ledger_floor, product_id, warehouse_id, received_at, quantity, unit_cost) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)",
+                    layers, layers.size(),
+                    (ps, layer) -> {
+                        ps.setObject(1, at.atOffset(ZoneOffset.UTC));
+                        ps.setObject(2, key.productId());
+                        ps.setObject(3, key.warehouseId());
+                        ps.setObject(4, layer.getReceivedAt().atOffset(ZoneOffset.UTC));
+                        ps.setBigDecimal(5, layer.getQuantity());
+                        ps.setBigDecimal(6, layer.getUnitCost());
+                    });
+        }
+        return 1;
+    }
+
+    private ValuationState load(BalanceKey key) {
+        List<BigDecimal[]> rows = jdbcTemplate.query(
+                "SELECT quantity, average_value FROM stock_valuations WHERE product_id = ? AND warehouse_id = ? FOR UPDATE",
+                (rs, rowNum) -> new BigDecimal[]{rs.getBigDecimal("quantity"), rs.getBigDecimal("average_value")},
+                key.productId(), key.warehouseId());
+        if (rows.isEmpty()) {
+            return ValuationState.empty();
+        }
+        List<ValuationState.CostLayer> layers = jdbcTemplate.query(
+                "SELECT id, received_at, quantity, unit_cost FROM stock_cost_layers " +
+                "WHERE product_id = ? AND warehouse_id = ? ORDER BY received_at, id",
+                (rs, rowNum) -> new ValuationState.CostLayer(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("received_at", OffsetDateTime.class).toInstant(),
+                        rs.getBigDecimal("quantity"),
+                        rs.getBigDecimal("unit_cost"),
+                        false),
+                key.productId(), key.warehouseId());
+        return new ValuationState(rows.get(0)[0], rows.get(0)[1], layers);
+    }
+
+    private void save(BalanceKey key, ValuationState state) {
+        jdbcTemplate.update(
+                "INSERT INTO stock_valuations (product_id, warehouse_id, quantity, average_value, fifo_value, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, now()) " +
+                "ON CONFLICT (product_id, warehouse_id) DO UPDATE SET quantity = EXCLUDED.quantity, " +
+                "average_value = EXCLUDED.average_value, fifo_value = EXCLUDED.fifo_value, updated_at = now()",
+                key.productId(), key.warehouseId(), state.quantity(), state.averageValue(), state.fifoValue());
+
+        List<ValuationState.CostLayer> removed = state.removedLayers();
+        if (!removed.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM stock_cost_layers WHERE id = ?", removed, removed.size(),
+                    (ps, layer) -> ps.setObject(1, layer.getId()));
+        }
+        List<ValuationState.CostLayer> changed = state.layers().stream().filter(l -> !l.isFresh() && l.isChanged()).toList();
+        if (!changed.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE stock_cost_layers SET quantity = ? WHERE id = ?", changed, changed.size(),
+                    (ps, layer) -> {
+                        ps.setBigDecimal(1, layer.getQuantity());
+                        ps.setObject(2, layer.getId());
+                    });
+        }
+        List<ValuationState.CostLayer> fresh = state.layers().stream().filter(ValuationState.CostLayer::isFresh).toList();
+        if (!fresh.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO stock_cost_layers (id, product_id, warehouse_id, received_at, quantity, unit_cost) VALUES (?, ?, ?, ?, ?, ?)",
+                    fresh, fresh.size(),
+                    (ps, layer) -> {
+                        ps.setObject(1, layer.getId());
+                        ps.setObject(2, key.productId());
+                        ps.setObject(3, key.warehouseId());
+                        ps.setObject(4, layer.getReceivedAt().atOffset(ZoneOffset.UTC));
+                        ps.setBigDecimal(5, layer.getQuantity());
+                        ps.setBigDecimal(6, layer.getUnitCost());
+                    });
+        }
+    }
+
+    // One movement as the valuation sees it; unitCost is only read for receipts
+    record Line(UUID productId, UUID warehouseId, StockMovementType type, BigDecimal quantity, BigDecimal unitCost,
+                UUID transferGroupId, Instant occurredAt) {}
+
+    // Applies lines in order to the states of the keys they touch; a key seen for the first time is loaded
+    static final class Replay {
+
+        private final Function<BalanceKey, ValuationState> loader;
+        private final Map<BalanceKey, ValuationState> states = new TreeMap<>();
+        private final Map<UUID, ValuationState.Issue> transfers = new HashMap<>();
+
+        Replay(Function<BalanceKey, ValuationState> loader) {
+            this.loader = loader;
+        }
+
+        Map<BalanceKey, ValuationState> states() {
+            return states;
+        }
+
+        void apply(Line line) {
+            ValuationState state = states.computeIfAbsent(new BalanceKey(line.productId(), line.warehouseId()), loader);
+            switch (line.type()) {
+                case IN -> state.receive(line.quantity(), line.unitCost(), line.occurredAt());
+                case OUT -> state.issue(line.quantity());
+                case TRANSFER_OUT -> {
+                    ValuationState.Issue issue = state.issue(line.quantity());
+                    if (line.transferGroupId() != null) {
+                        transfers.put(line.transferGroupId(), issue);
+                    }
+                }
+                case TRANSFER_IN -> {
+                    // Imported transfer legs carry no group and are valued like receipts
+                    ValuationState.Issue issue = line.transferGroupId() != null ? transfers.remove(line.transferGroupId()) : null;
+                    if (issue != null) {
+                        state.receiveTransfer(line.quantity(), issue);
+                    } else {
+                        state.receive(line.quantity(), line.unitCost(), line.occurredAt());
+                    }
+                }
+            }
+        }
+    }
+}
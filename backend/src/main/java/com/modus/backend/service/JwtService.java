@@ -1,5 +1,6 @@
 package com.modus.backend.service;
 
+import com.modus.backend.dto.auth.StreamToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -18,12 +19,19 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
+    // Marks a token that may only open the stock stream
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String STREAM_SCOPE = "stock-stream";
+
     @Value("${application.security.jwt.secret-key:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}")
     private String secretKey;
 
     @Value("${application.security.jwt.expiration:86400000}")
     private long jwtExpiration;
 
+    @Value("${application.security.jwt.stream-token-expiration:60000}")
+    private long streamTokenExpiration;
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -41,6 +49,15 @@ public class JwtService {
         return buildToken(extraClaims, userDetails, jwtExpiration);
     }
 
+    // EventSource cannot send an Authorization header, so the stream takes its token in the URL. The token only
+    // has to outlive the connect; an open stream is not cut when it expires.
+    public StreamToken generateStreamToken(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(SCOPE_CLAIM, STREAM_SCOPE);
+        String token = buildToken(claims, userDetails, streamTokenExpiration);
+        return new StreamToken(token, extractExpiration(token).toInstant());
+    }
+
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
         return Jwts
                 .builder()
@@ -54,7 +71,16 @@ public class JwtService {
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token) && extractScope(token) == null;
+    }
+
+    public boolean isStreamTokenValid(String token, UserDetails userDetails) {
+        final String username = extractUsername(token);
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token) && STREAM_SCOPE.equals(extractScope(token));
+    }
+
+    private String extractScope(String token) {
+        return extractClaim(token, claims -> claims.get(SCOPE_CLAIM, String.class));
     }
 
     private boolean isTokenExpired(String token) {
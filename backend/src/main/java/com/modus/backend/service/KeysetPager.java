@@ -0,0 +1,89 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.repository.KeysetQueryExecutor;
+import com.modus.backend.dto.CursorPage;
+import com.modus.backend.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Shared cursor handling for the list endpoints. Sort is a field name, prefixed with '-' for descending.
+@Component
+@RequiredArgsConstructor
+class KeysetPager {
+
+    private static final int MAX_LIMIT = 200;
+    private static final String VALUE = "v";
+    private static final String NULL = "n";
+
+    private final KeysetQueryExecutor keysetQueryExecutor;
+
+    <T, R> CursorPage<R> page(Class<T> entityType, Specification<T> filter, Map<String, SortField<T>> sortFields,
+                              Function<T, UUID> idExtractor, String sort, String cursor, int limit, Function<T, R> mapper) {
+        Seek<T> seek = seek(sortFields, sort, cursor, limit);
+        List<T> rows = keysetQueryExecutor.findPage(entityType, filter, seek.field().property(), seek.field().nullable(),
+                seek.descending(), seek.afterValue(), seek.afterId(), seek.pageSize() + 1);
+        return toPage(rows, seek, sort, idExtractor, mapper);
+    }
+
+    // For summary lists: rows are projections and the sort fields read their values from the projection
+    <T, R> CursorPage<R> page(Class<T> entityType, Class<R> rowType, Specification<T> filter,
+                              KeysetQueryExecutor.Projection<T, R> projection, Map<String, SortField<R>> sortFields,
+                              Function<R, UUID> idExtractor, String sort, String cursor, int limit) {
+        Seek<R> seek = seek(sortFields, sort, cursor, limit);
+        List<R> rows = keysetQueryExecutor.findPage(entityType, rowType, filter, projection, seek.field().property(),
+                seek.field().nullable(), seek.descending(), seek.afterValue(), seek.afterId(), seek.pageSize() + 1);
+        return toPage(rows, seek, sort, idExtractor, Function.identity());
+    }
+
+    private <T> Seek<T> seek(Map<String, SortField<T>> sortFields, String sort, String cursor, int limit) {
+        boolean descending = sort.startsWith("-");
+        String sortKey = descending ? sort.substring(1) : sort;
+        SortField<T> field = sortFields.get(sortKey);
+        if (field == null) {
+            throw new BusinessException("Unsupported sort: " + sort + ". Supported: " + sortFields.keySet());
+        }
+        int pageSize = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        Comparable<?> afterValue = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            // Cursor layout: sort|id|kind|value, kind being VALUE or NULL (value last, it may itself contain the separator)
+            String[] values = CursorCodec.decode(cursor, 4);
+            if (!values[0].equals(sort)) {
+                throw new BusinessException("Cursor was issued for a different sort order");
+            }
+            try {
+                afterId = UUID.fromString(values[1]);
+                if (values[2].equals(VALUE)) {
+                    afterValue = field.parser().apply(values[3]);
+                } else if (!values[2].equals(NULL) || !field.nullable()) {
+                    throw new IllegalArgumentException("Unexpected cursor value kind: " + values[2]);
+                }
+            } catch (RuntimeException e) {
+                throw new BusinessException("Invalid cursor");
+            }
+        }
+        return new Seek<>(field, descending, pageSize, afterValue, afterId);
+    }
+
+    private <T, R> CursorPage<R> toPage(List<T> rows, Seek<T> seek, String sort, Function<T, UUID> idExtractor, Function<T, R> mapper) {
+        String nextCursor = null;
+        if (rows.size() > seek.pageSize()) {
+            rows = rows.subList(0, seek.pageSize());
+            T last = rows.get(seek.pageSize() - 1);
+            Object value = seek.field().extractor().apply(last);
+            nextCursor = value != null
+                    ? CursorCodec.encode(sort, idExtractor.apply(last).toString(), VALUE, value.toString())
+                    : CursorCodec.encode(sort, idExtractor.apply(last).toString(), NULL, "");
+        }
+        return new CursorPage<>(rows.stream().map(mapper).toList(), nextCursor);
+    }
+
+    private record Seek<T>(SortField<T> field, boolean descending, int pageSize, Comparable<?> afterValue, UUID afterId) {}
+}
@@ -0,0 +1,133 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.event.ReorderPointsChangedEvent;
+import com.modus.backend.domain.event.StockBalancesChangedEvent;
+import com.modus.backend.domain.repository.ReorderPointRepository;
+import com.modus.backend.dto.ReorderPointDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// The (product) and (product, warehouse) scopes currently below their reorder point. Scopes touched by a
+// committed movement are re-evaluated against the stock projection; everything else is left alone.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LowStockIndex {
+
+    private final ReorderPointRepository reorderPointRepository;
+    private final StockProjection stockProjection;
+
+    // Product-wide reorder point for products that have stock but no reorder point of their own
+    @Value("${application.stock.low-stock.default-threshold:10}")
+    private BigDecimal defaultThreshold;
+
+    private final Map<ReorderKey, LowStockEntry> lowStock = new ConcurrentHashMap<>();
+    private volatile Map<ReorderKey, Long> thresholds = Map.of();
+
+    @PostConstruct
+    void load() {
+        reload();
+    }
+
+    public List<ReorderPointDTO.LowStockItem> getLowStock(UUID warehouseId, int limit) {
+        List<LowStockEntry> entries = lowStock.values().stream()
+                .filter(e -> warehouseId == null || warehouseId.equals(e.key().warehouseId()))
+                .sorted(Comparator.comparingDouble(LowStockEntry::coverage))
+                .limit(limit)
+                .toList();
+
+        Set<UUID> productIds = new HashSet<>();
+        entries.forEach(e -> productIds.add(e.key().productId()));
+        Map<UUID, StockProjection.ProductLabel> labels = stockProjection.resolveLabels(productIds);
+
+        return entries.stream()
+                .map(e -> {
+                    StockProjection.ProductLabel label = labels.get(e.key().productId());
+                    return new ReorderPointDTO.LowStockItem(
+                            e.key().productId(),
+                            label != null ? label.name() : null,
+                            label != null ? label.sku() : null,
+                            e.key().warehouseId(),
+                            StockProjection.fromUnits(e.quantity()),
+                            StockProjection.fromUnits(e.threshold())
+                    );
+                })
+                .toList();
+    }
+
+    @TransactionalEventListener
+    @Order(1)
+    public void onBalancesChanged(StockBalancesChangedEvent event) {
+        Map<ReorderKey, Long> current = thresholds;
+        for (StockBalancesChangedEvent.Delta delta : event.deltas()) {
+            evaluate(new ReorderKey(delta.productId(), null), current);
+            ReorderKey warehouseKey = new ReorderKey(delta.productId(), delta.warehouseId());
+            if (current.containsKey(warehouseKey)) {
+                evaluate(warehouseKey, current);
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onReorderPointsChanged(ReorderPointsChangedEvent event) {
+        reload();
+    }
+
+    // Safety net for changes the events do not cover (projection drift repair, deleted products)
+    @Scheduled(fixedDelayString = "${application.stock.low-stock.rebuild-interval:PT5M}",
+               initialDelayString = "${application.stock.low-stock.rebuild-interval:PT5M}")
+    public void rebuild() {
+        Map<ReorderKey, Long> current = thresholds;
+        Set<ReorderKey> keys = new HashSet<>(current.keySet());
+        stockProjection.forEachProductTotal((productId, ignored) -> keys.add(new ReorderKey(productId, null)));
+
+        keys.forEach(key -> evaluate(key, current));
+        lowStock.keySet().retainAll(keys);
+        log.debug("Low Stock Index Rebuilt: Scopes={}, Low={}", keys.size(), lowStock.size());
+    }
+
+    private void reload() {
+        Map<ReorderKey, Long> loaded = new HashMap<>();
+        reorderPointRepository.findAllThresholds().forEach(t -> loaded.put(
+                new ReorderKey(t.getProductId(), t.getWarehouseId()),
+                StockProjection.toUnits(t.getThreshold())));
+        thresholds = Map.copyOf(loaded);
+        rebuild();
+    }
+
+    // compute() serializes evaluations of one key, and each reads the projection after its own delta was applied
+    private void evaluate(ReorderKey key, Map<ReorderKey, Long> current) {
+        lowStock.compute(key, (k, previous) -> {
+            Long threshold = current.get(k);
+            if (threshold == null) {
+                if (k.warehouseId() != null) {
+                    return null;
+                }
+                threshold = StockProjection.toUnits(defaultThreshold);
+            }
+            long quantity = StockProjection.toUnits(k.warehouseId() == null
+                    ? stockProjection.getProductQuantity(k.productId())
+                    : stockProjection.getQuantity(k.productId(), k.warehouseId()));
+            return quantity < threshold ? new LowStockEntry(k, quantity, threshold) : null;
+        });
+    }
+
+    private record ReorderKey(UUID productId, UUID warehouseId) {}
+
+    private record LowStockEntry(ReorderKey key, long quantity, long threshold) {
+
+        double coverage() {
+            return threshold == 0 ? 0 : (double) quantity / threshold;
+        }
+    }
+}
@@ -1,43 +1,121 @@
 package com.modus.backend.service;
 
 import com.modus.backend.domain.entity.*;
+import com.modus.backend.domain.event.OfferStatusChangedEvent;
 import com.modus.backend.domain.repository.CustomerRepository;
 import com.modus.backend.domain.repository.DemandRepository;
 import com.modus.backend.domain.repository.OfferRepository;
 import com.modus.backend.domain.repository.ProductRepository;
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.OfferDTO;
 import com.modus.backend.exception.BusinessException;
 import com.modus.backend.exception.ResourceNotFoundException;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.UUID;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class OfferService {
 
+    private static final int MAX_BULK_OFFERS = 200;
+    private static final Set<OfferStatus> OPEN_STATUSES = EnumSet.of(OfferStatus.DRAFT, OfferStatus.SENT);
+
+    private static final Map<String, SortField<Offer>> SORT_FIELDS = Map.of(
+            "createdAt", SortField.ofDateTime("createdAt", Offer::getCreatedAt).orNull(),
+            "totalAmount", SortField.ofDecimal("totalAmount", Offer::getTotalAmount).orNull()
+    );
+    private static final Map<String, SortField<OfferDTO.Summary>> SUMMARY_SORT_FIELDS = Map.of(
+            "createdAt", SortField.ofDateTime("createdAt", OfferDTO.Summary::createdAt).orNull(),
+            "totalAmount", SortField.ofDecimal("totalAmount", OfferDTO.Summary::totalAmount).orNull()
+    );
+
     private final OfferRepository offerRepository;
     private final DemandRepository demandRepository;
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
+    private final KeysetPager keysetPager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final PricingEngine pricingEngine;
+    private final StatusTransitions statusTransitions;
 
-    public List<OfferDTO.Response> getAllOffers() {
-        return offerRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    // Items, products, customers and demands of a page are loaded in batches (hibernate.default_batch_fetch_size)
+    @Transactional(readOnly = true)
+    public CursorPage<OfferDTO.Response> getOffers(OfferStatus status, UUID customerId, String currency,
+                                                   String sort, String cursor, int limit) {
+        return keysetPager.page(Offer.class, filter(status, customerId, currency), SORT_FIELDS, Offer::getId,
+                sort, cursor, limit, this::mapToResponse);
     }
 
+    // One grouped query per page: offer columns, customer and demand names, item count
+    @Transactional(readOnly = true)
+    public CursorPage<OfferDTO.Summary> getOfferSummaries(OfferStatus status, UUID customerId, String currency,
+                                                          String sort, String cursor, int limit) {
+        return keysetPager.page(Offer.class, OfferDTO.Summary.class, filter(status, customerId, currency),
+                (root, query, cb) -> {
+                    Join<Offer, Customer> customer = root.join("customer");
+                    Join<Offer, Demand> demand = root.join("demand", JoinType.LEFT);
+                    Join<Offer, OfferItem> items = root.join("items", JoinType.LEFT);
+                    query.groupBy(root.get("id"), customer.get("id"), demand.get("id"));
+                    return cb.construct(OfferDTO.Summary.class,
+                            root.get("id"),
+                            demand.get("id"),
+                            demand.get("title"),
+                            customer.get("id"),
+                            customer.get("name"),
+                            root.get("status"),
+                            root.get("totalAmount"),
+                            root.get("currency"),
+                            root.get("validUntil"),
+                            cb.count(items),
+                            root.get("createdAt"));
+                },
+                SUMMARY_SORT_FIELDS, OfferDTO.Summary::id, sort, cursor, limit);
+    }
+
+    @Transactional(readOnly = true)
     public OfferDTO.Response getOffer(UUID id) {
-        return offerRepository.findById(id)
+        return offerRepository.findDetailedById(id)
                 .map(this::mapToResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Offer not found: " + id));
     }
 
+    private Specification<Offer> filter(OfferStatus status, UUID customerId, String currency) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (customerId != null) {
+                predicates.add(cb.equal(root.get("customer").get("id"), customerId));
+            }
+            if (currency != null && !currency.isBlank()) {
+                predicates.add(cb.equal(root.get("currency"), currency));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
     @Transactional
     public OfferDTO.Response createOffer(OfferDTO.CreateRequest request) {
         Customer customer = customerRepository.findById(request.customerId())
@@ -49,21 +127,106 @@ public class OfferService {
                     .orElseThrow(() -> new ResourceNotFoundException("Demand not found: " + request.demandId()));
         }
 
+        Map<UUID, Product> products = findProducts(request.items().stream().map(OfferDTO.ItemRequest::productId).toList());
+        return mapToResponse(saveOffer(request, customer, demand, products));
+    }
+
+    // Customers, demands and products for all offers are resolved up front in three queries. Each offer is then
+    // saved in its own transaction, so one bad offer is reported without rolling back the others.
+    public OfferDTO.BulkResult createOffers(OfferDTO.BulkCreateRequest request) {
+        List<OfferDTO.CreateRequest> offers = request.offers();
+        if (offers.size() > MAX_BULK_OFFERS) {
+            throw new BusinessException("At most " + MAX_BULK_OFFERS + " offers can be created per request");
+        }
+
+        List<String> violations = offers.stream().map(this::validate).toList();
+        List<OfferDTO.CreateRequest> valid = new ArrayList<>();
+        for (int i = 0; i < offers.size(); i++) {
+            if (violations.get(i) == null) {
+                valid.add(offers.get(i));
+            }
+        }
+        Map<UUID, Customer> customers = customerRepository.findAllById(
+                        valid.stream().map(OfferDTO.CreateRequest::customerId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        Map<UUID, Demand> demands = demandRepository.findAllById(
+                        valid.stream().map(OfferDTO.CreateRequest::demandId).filter(Objects::nonNull).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Demand::getId, Function.identity()));
+        Map<UUID, Product> products = findProducts(valid.stream()
+                .flatMap(o -> o.items().stream())
+                .map(OfferDTO.ItemRequest::productId)
+                .toList());
+
+        List<OfferDTO.BulkItemResult> results = new ArrayList<>(offers.size());
+        int created = 0;
+        for (int i = 0; i < offers.size(); i++) {
+            OfferDTO.CreateRequest offer = offers.get(i);
+            String error = violations.get(i);
+            if (error == null) {
+                try {
+                    Customer customer = customers.get(offer.customerId());
+                    if (customer == null) {
+                        throw new ResourceNotFoundException("Customer not found: " + offer.customerId());
+                    }
+                    Demand demand = null;
+                    if (offer.demandId() != null) {
+                        demand = demands.get(offer.demandId());
+                        if (demand == null) {
+                            throw new ResourceNotFoundException("Demand not found: " + offer.demandId());
+                        }
+                    }
+                    Demand linkedDemand = demand;
+                    Offer saved = transactionTemplate.execute(status -> saveOffer(offer, customer, linkedDemand, products));
+                    results.add(new OfferDTO.BulkItemResult(i, saved.getId(), null));
+                    created++;
+                    continue;
+                } catch (ResourceNotFoundException | BusinessException e) {
+                    error = e.getMessage();
+                } catch (DataAccessException e) {
+                    log.warn("Bulk Offer Failed: Index={}, Customer={}", i, offer.customerId(), e);
+                    error = "Could not save offer: " + e.getMostSpecificCause().getMessage();
+                } catch (RuntimeException e) {
+                    // Anything else (a conflict, a failed event listener) fails this offer only
+                    log.warn("Bulk Offer Failed: Index={}, Customer={}", i, offer.customerId(), e);
+                    error = "Could not save offer: " + e.getMessage();
+                }
+            }
+            results.add(new OfferDTO.BulkItemResult(i, null, error));
+        }
+
+        log.info("Bulk Offers Created: Requested={}, Created={}, Failed={}", offers.size(), created, offers.size() - created);
+        return new OfferDTO.BulkResult(created, offers.size() - created, results);
+    }
+
+    // Also used by the bulk demand conversion, inside its chunk transaction
+    Offer saveOffer(OfferDTO.CreateRequest request, Customer customer, Demand demand, Map<UUID, Product> products) {
+        String currency = request.currency() != null ? request.currency() : "USD";
+        LocalDate today = LocalDate.now();
         Offer offer = Offer.builder()
                 .demand(demand)
                 .customer(customer)
                 .status(OfferStatus.DRAFT)
                 .validUntil(request.validUntil())
-                .currency(request.currency() != null ? request.currency() : "USD")
+                .currency(currency)
                 .totalAmount(BigDecimal.ZERO)
                 .build();
 
         List<OfferItem> items = request.items().stream().map(itemReq -> {
-            Product product = productRepository.findById(itemReq.productId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Product not found: " + itemReq.productId()));
+            Product product = products.get(itemReq.productId());
+            if (product == null) {
+                throw new ResourceNotFoundException("Product not found: " + itemReq.productId());
+            }
+
+            // A price given with the item is a manual override; otherwise the price lists decide
+            BigDecimal unitPrice = itemReq.unitPrice() != null
+                    ? itemReq.unitPrice()
+                    : pricingEngine.price(product, customer, currency, itemReq.quantity(), today).unitPrice();
+            if (unitPrice == null) {
+                throw new BusinessException("No price found for product " + product.getSku());
+            }
 
             BigDecimal discount = itemReq.discount() != null ? itemReq.discount() : BigDecimal.ZERO;
-            BigDecimal total = itemReq.unitPrice()
+            BigDecimal total = unitPrice
                     .multiply(BigDecimal.valueOf(itemReq.quantity()))
                     .subtract(discount);
 
@@ -71,7 +234,7 @@ public class OfferService {
                     .offer(offer)
                     .product(product)
                     .quantity(itemReq.quantity())
-                    .unitPrice(itemReq.unitPrice())
+                    .unitPrice(unitPrice)
                     .discount(discount)
                     .totalPrice(total)
                     .build();
@@ -85,21 +248,56 @@ public class OfferService {
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
         offer.setTotalAmount(totalAmount);
 
-        return mapToResponse(offerRepository.save(offer));
+        // Items cascade as JDBC batches (client-side UUIDs, hibernate.jdbc.batch_size)
+        Offer saved = offerRepository.save(offer);
+        publishStatusChange(saved, null);
+        return saved;
+    }
+
+    private Map<UUID, Product> findProducts(Collection<UUID> ids) {
+        return productRepository.findAllById(ids.stream().filter(Objects::nonNull).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    // Bean validation for one offer of a bulk request; null when valid
+    private String validate(OfferDTO.CreateRequest request) {
+        if (request == null) {
+            return "Offer is empty";
+        }
+        Set<ConstraintViolation<OfferDTO.CreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
     }
 
+    // One guarded UPDATE; ACCEPTED and REJECTED offers are final
     @Transactional
-    public OfferDTO.Response updateStatus(UUID id, OfferStatus status) {
-        Offer offer = offerRepository.findById(id)
+    public OfferDTO.Response updateStatus(UUID id, OfferStatus status, Long version) {
+        OfferStatus previousStatus = statusTransitions.transition(
+                StatusTransitions.Table.OFFERS, id, OPEN_STATUSES, status, version, OfferStatus.class);
+        Offer offer = offerRepository.findDetailedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Offer not found: " + id));
-        
-        // State transition rules
-        if (offer.getStatus() == OfferStatus.ACCEPTED || offer.getStatus() == OfferStatus.REJECTED) {
-             throw new BusinessException("Cannot change status of a finalized offer (ACCEPTED or REJECTED).");
+        if (previousStatus != status) {
+            publishStatusChange(offer, previousStatus);
         }
+        return mapToResponse(offer);
+    }
 
-        offer.setStatus(status);
-        return mapToResponse(offerRepository.save(offer));
+    private void publishStatusChange(Offer offer, OfferStatus previousStatus) {
+        eventPublisher.publishEvent(new OfferStatusChangedEvent(
+                offer.getId(),
+                offer.getCustomer().getId(),
+                offer.getCustomer().getName(),
+                offer.getCurrency(),
+                offer.getTotalAmount(),
+                previousStatus,
+                offer.getStatus(),
+                Instant.now()
+        ));
     }
 
     private OfferDTO.Response mapToResponse(Offer offer) {
@@ -127,7 +325,8 @@ public class OfferService {
                 offer.getCurrency(),
                 offer.getValidUntil(),
                 itemResponses,
-                offer.getCreatedAt()
+                offer.getCreatedAt(),
+                offer.getVersion()
         );
     }
 }
@@ -0,0 +1,69 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.OfferStatus;
+import com.modus.backend.domain.event.OfferStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Materialized offer totals per (currency, status). Every status change moves the offer's amount between rows
+// before its transaction commits, so the table never disagrees with the offers it sums. Reading a status is a
+// handful of rows, converted to the base currency with the cached FX rates.
+@Service
+@RequiredArgsConstructor
+public class OfferTotals {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FxRateService fxRateService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOfferStatusChanged(OfferStatusChangedEvent event) {
+        String currency = event.currency() != null ? event.currency() : "USD";
+        BigDecimal amount = event.totalAmount() != null ? event.totalAmount() : BigDecimal.ZERO;
+        if (event.previousStatus() != null) {
+            add(currency, event.previousStatus(), -1, amount.negate());
+        }
+        add(currency, event.status(), 1, amount);
+    }
+
+    // Amounts are converted at today's rates; baseTotal is null when a currency has no rate yet
+    public Value getValue(OfferStatus status) {
+        Map<String, BigDecimal> byCurrency = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT currency, total_amount FROM offer_totals WHERE status = ? AND offer_count > 0 ORDER BY currency",
+                rs -> {
+                    byCurrency.put(rs.getString("currency"), rs.getBigDecimal("total_amount"));
+                },
+                status.name());
+
+        LocalDate today = LocalDate.now();
+        BigDecimal baseTotal = BigDecimal.ZERO;
+        for (Map.Entry<String, BigDecimal> entry : byCurrency.entrySet()) {
+            BigDecimal converted = fxRateService.toBase(entry.getValue(), entry.getKey(), today).orElse(null);
+            if (converted == null) {
+                baseTotal = null;
+                break;
+            }
+            baseTotal = baseTotal.add(converted);
+        }
+        return new Value(fxRateService.getBaseCurrency(), baseTotal, byCurrency);
+    }
+
+    private void add(String currency, OfferStatus status, long count, BigDecimal amount) {
+        jdbcTemplate.update(
+                "INSERT INTO offer_totals (currency, status, offer_count, total_amount) VALUES (?, ?, ?, ?) " +
+                "ON CONFLICT (currency, status) DO UPDATE SET " +
+                "offer_count = offer_totals.offer_count + EXCLUDED.offer_count, " +
+                "total_amount = offer_totals.total_amount + EXCLUDED.total_amount",
+                currency, status.name(), count, amount);
+    }
+
+    public record Value(String baseCurrency, BigDecimal baseTotal, Map<String, BigDecimal> byCurrency) {}
+}
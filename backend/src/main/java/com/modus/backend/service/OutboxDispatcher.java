@@ -0,0 +1,262 @@
+package com.modus.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Polls the outbox and hands events to the OutboxHandler beans, off the request threads. A batch is claimed under
+// a transaction-scoped advisory lock by leasing its rows, so instances never claim the same event. An event is only
+// claimed when no earlier event of its aggregate is still pending elsewhere (leased or waiting for a retry), and
+// each aggregate's events run in id order on their own virtual thread. A failure stops that aggregate for the batch
+// and schedules a retry with exponential backoff; after max-attempts the event is parked as FAILED.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final long CLAIM_LOCK_KEY = 0x6f7574626f78L; // "outbox"
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<OutboxHandler> handlers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.outbox.batch-size:200}")
+    private int batchSize;
+
+    // Full batches are claimed back to back up to this many, then the poll yields its scheduler thread
+    @Value("${application.outbox.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Value("${application.outbox.lease:PT1M}")
+    private Duration lease;
+
+    @Value("${application.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${application.outbox.retry-backoff:PT5S}")
+    private Duration retryBackoff;
+
+    @Value("${application.outbox.max-retry-backoff:PT1H}")
+    private Duration maxRetryBackoff;
+
+    @Value("${application.outbox.retention:P7D}")
+    private Duration retention;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+    private Map<String, List<OutboxHandler>> handlersByType;
+    private Timer lag;
+    private Counter dispatched;
+    private Counter retried;
+    private Counter parked;
+
+    @PostConstruct
+    void init() {
+        Map<String, List<OutboxHandler>> byType = new HashMap<>();
+        handlers.orderedStream().forEach(handler -> {
+            handler.eventTypes().forEach(type -> byType.computeIfAbsent(type, t -> new ArrayList<>()).add(handler));
+        });
+        handlersByType = byType;
+
+        lag = Timer.builder("outbox.dispatch.lag")
+                .description("Time from an event's commit to its successful dispatch")
+                .register(meterRegistry);
+        dispatched = Counter.builder("outbox.dispatched").register(meterRegistry);
+        retried = Counter.builder("outbox.retries").description("Dispatch attempts that failed and were rescheduled").register(meterRegistry);
+        parked = Counter.builder("outbox.failed").description("Events parked as FAILED after max attempts").register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("outbox.oldest.pending.age.seconds", oldestPendingAgeSeconds, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.outbox.poll-interval:PT1S}")
+    public void poll() {
+        List<Event> batch;
+        int batches = 0;
+        do {
+            batch = claim();
+            if (!batch.isEmpty()) {
+                dispatch(batch);
+            }
+        } while (batch.size() == batchSize && ++batches < maxBatchesPerPoll);
+        refreshBacklog();
+    }
+
+    @Scheduled(fixedDelayString = "${application.outbox.cleanup-interval:PT1H}",
+               initialDelayString = "${application.outbox.cleanup-interval:PT1H}")
+    public void cleanup() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM outbox_events WHERE status = 'DISPATCHED' AND dispatched_at < now() - CAST(? AS INTERVAL)",
+                retention.toSeconds() + " seconds");
+        if (deleted > 0) {
+            log.info("Outbox Cleaned Up: Deleted={}", deleted);
+        }
+    }
+
+    private List<Event> claim() {
+        return transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, CLAIM_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                // Another instance is claiming right now; its lock is held for milliseconds
+                return List.of();
+            }
+            List<Event> events = jdbcTemplate.query(
+                    "SELECT o.id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload::text AS payload, o.attempts, o.created_at " +
+                    "FROM outbox_events o " +
+                    "WHERE o.status = 'PENDING' AND o.next_attempt_at <= now() " +
+                    "  AND (o.leased_until IS NULL OR o.leased_until < now()) " +
+                    "  AND NOT EXISTS (SELECT 1 FROM outbox_events e " +
+                    "                  WHERE e.aggregate_type = o.aggregate_type AND e.aggregate_id = o.aggregate_id " +
+                    "                    AND e.status = 'PENDING' AND e.id < o.id " +
+                    "                    AND (e.next_attempt_at > now() OR e.leased_until >= now())) " +
+                    "ORDER BY o.id LIMIT ?",
+                    EVENT_MAPPER, batchSize);
+            if (!events.isEmpty()) {
+                jdbcTemplate.update(
+                        "UPDATE outbox_events SET leased_until = now() + CAST(? AS INTERVAL) WHERE id = ANY (?)",
+                        lease.toSeconds() + " seconds", ids(events));
+            }
+            return events;
+        });
+    }
+
+    private void dispatch(List<Event> batch) {
+        Map<String, List<Event>> byAggregate = new LinkedHashMap<>();
+        for (Event event : batch) {
+            byAggregate.computeIfAbsent(event.aggregateType() + ":" + event.aggregateId(), k -> new ArrayList<>()).add(event);
+        }
+
+        List<Event> done = Collections.synchronizedList(new ArrayList<>());
+        List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Event> released = Collections.synchronizedList(new ArrayList<>());
+        // Closing the executor waits for every aggregate
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<Event> events : byAggregate.values()) {
+                executor.submit(() -> {
+                    for (int i = 0; i < events.size(); i++) {
+                        Event event = events.get(i);
+                        try {
+                            deliver(event);
+                            done.add(event);
+                        } catch (Exception e) {
+                            failures.add(new Failure(event, e));
+                            // Later events of the aggregate wait for this one
+                            released.addAll(events.subList(i + 1, events.size()));
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+
+        Instant now = Instant.now();
+        if (!done.isEmpty()) {
+            jdbcTemplate.update(
+                    "UPDATE outbox_events SET status = 'DISPATCHED', dispatched_at = now(), leased_until = NULL WHERE id = ANY (?)",
+                    (Object) ids(done));
+            done.forEach(event -> lag.record(Duration.between(event.createdAt(), now)));
+            dispatched.increment(done.size());
+        }
+        if (!released.isEmpty()) {
+            jdbcTemplate.update("UPDATE outbox_events SET leased_until = NULL WHERE id = ANY (?)", (Object) ids(released));
+        }
+        for (Failure failure : failures) {
+            reschedule(failure);
+        }
+    }
+
+    private void deliver(Event event) throws Exception {
+        List<OutboxHandler> targets = handlersByType.getOrDefault(event.eventType(), List.of());
+        if (targets.isEmpty()) {
+            return;
+        }
+        OutboxMessage message = new OutboxMessage(
+                event.id(),
+                event.aggregateType(),
+                event.aggregateId(),
+                event.eventType(),
+                objectMapper.readTree(event.payload()),
+                event.createdAt(),
+                event.attempts() + 1);
+        for (OutboxHandler handler : targets) {
+            handler.handle(message);
+        }
+    }
+
+    private void reschedule(Failure failure) {
+        Event event = failure.event();
+        int attempts = event.attempts() + 1;
+        String error = String.valueOf(failure.error());
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        if (attempts >= maxAttempts) {
+            jdbcTemplate.update(
+                    "UPDATE outbox_events SET status = 'FAILED', attempts = ?, last_error = ?, leased_until = NULL WHERE id = ?",
+                    attempts, error, event.id());
+            parked.increment();
+            log.error("Outbox Event Failed: Id={}, Type={}, Aggregate={}, Attempts={}",
+                      event.id(), event.eventType(), event.aggregateId(), attempts, failure.error());
+            return;
+        }
+        // 1x, 2x, 4x ... the base backoff, capped
+        long backoffMillis = Math.min(retryBackoff.toMillis() << Math.min(attempts - 1, 20), maxRetryBackoff.toMillis());
+        jdbcTemplate.update(
+                "UPDATE outbox_events SET attempts = ?, last_error = ?, leased_until = NULL, " +
+                "next_attempt_at = now() + CAST(? AS INTERVAL) WHERE id = ?",
+                attempts, error, backoffMillis + " milliseconds", event.id());
+        retried.increment();
+        log.warn("Outbox Dispatch Failed: Id={}, Type={}, Aggregate={}, Attempt={}, RetryInMs={}",
+                 event.id(), event.eventType(), event.aggregateId(), attempts, backoffMillis, failure.error());
+    }
+
+    private void refreshBacklog() {
+        jdbcTemplate.query(
+                "SELECT count(*) AS pending, EXTRACT(EPOCH FROM now() - min(created_at)) AS oldest " +
+                "FROM outbox_events WHERE status = 'PENDING'",
+                rs -> {
+                    pending.set(rs.getLong("pending"));
+                    oldestPendingAgeSeconds.set(rs.getLong("oldest"));
+                });
+    }
+
+    private static Long[] ids(List<Event> events) {
+        return events.stream().map(Event::id).toArray(Long[]::new);
+    }
+
+    private static final RowMapper<Event> EVENT_MAPPER = (rs, rowNum) -> new Event(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getObject("aggregate_id", UUID.class),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts"),
+            rs.getObject("created_at", OffsetDateTime.class).toInstant()
+    );
+
+    private record Event(long id, String aggregateType, UUID aggregateId, String eventType, String payload, int attempts, Instant createdAt) {}
+
+    private record Failure(Event event, Exception error) {}
+}
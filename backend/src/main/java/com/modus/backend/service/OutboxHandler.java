@@ -0,0 +1,13 @@
+package com.modus.backend.service;
+
+import java.util.Set;
+
+// An in-process consumer of outbox events. Delivery is at least once: an event is handed over again after a
+// failure (of this or another handler of the same event) or a crash, so handle must be idempotent.
+public interface OutboxHandler {
+
+    // Event types (the domain event's simple class name, e.g. OfferStatusChangedEvent) this handler consumes
+    Set<String> eventTypes();
+
+    void handle(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,17 @@
+package com.modus.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// payload is the domain event as JSON; attempt counts from 1
+public record OutboxMessage(
+    long id,
+    String aggregateType,
+    UUID aggregateId,
+    String eventType,
+    JsonNode payload,
+    Instant createdAt,
+    int attempt
+) {}
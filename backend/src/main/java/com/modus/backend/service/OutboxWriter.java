@@ -0,0 +1,133 @@
+package com.modus.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modus.backend.domain.event.DemandStatusChangedEvent;
+import com.modus.backend.domain.event.OfferStatusChangedEvent;
+import com.modus.backend.domain.event.StockDocumentRecordedEvent;
+import com.modus.backend.domain.event.StockMovementRecordedEvent;
+import com.modus.backend.domain.event.StockTransferredEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Writes domain events to the outbox inside the transaction that raised them. Events are collected while the
+// transaction runs and inserted as one JDBC batch just before it commits, so they exist exactly when the change
+// does. Before inserting, the transaction takes an advisory lock per aggregate and holds it to commit, so a second
+// writer of the same aggregate draws its ids only after the first has committed: id order is commit order per
+// aggregate, which the dispatcher relies on. Stock writes to one product hold different balance rows and would
+// otherwise commit in any order.
+@Service
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    // First key of the two-int advisory locks, a space apart from the single-bigint keys used elsewhere
+    private static final int AGGREGATE_LOCK_CLASS = 0x6f757462; // "outb"
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onStockMovementRecorded(StockMovementRecordedEvent event) {
+        enqueue("Product", event.productId(), event);
+    }
+
+    @EventListener
+    public void onStockTransferred(StockTransferredEvent event) {
+        enqueue("Product", event.productId(), event);
+    }
+
+    // A document has no id of its own; each gets a fresh aggregate
+    @EventListener
+    public void onStockDocumentRecorded(StockDocumentRecordedEvent event) {
+        enqueue("StockDocument", UUID.randomUUID(), event);
+    }
+
+    @EventListener
+    public void onOfferStatusChanged(OfferStatusChangedEvent event) {
+        enqueue("Offer", event.offerId(), event);
+    }
+
+    @EventListener
+    public void onDemandStatusChanged(DemandStatusChangedEvent event) {
+        enqueue("Demand", event.demandId(), event);
+    }
+
+    private void enqueue(String aggregateType, UUID aggregateId, Object event) {
+        Row row = new Row(aggregateType, aggregateId, event.getClass().getSimpleName(), toJson(event));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(row));
+            return;
+        }
+        // The batch lives in the transaction's own synchronization, so a suspended outer transaction keeps its rows
+        Batch batch = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(Batch.class::isInstance)
+                .map(Batch.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    Batch created = new Batch();
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+        batch.rows.add(row);
+    }
+
+    private void insert(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        // clock_timestamp(), not the column's now() default: the insert runs just before commit, and the dispatch lag
+        // is measured from created_at, so it must not include the rest of the writing transaction
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at) " +
+                "VALUES (?, ?, ?, CAST(? AS JSONB), clock_timestamp())",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setString(1, row.aggregateType());
+                    ps.setObject(2, row.aggregateId());
+                    ps.setString(3, row.eventType());
+                    ps.setString(4, row.payload());
+                });
+    }
+
+    // Taken in hash order so two transactions touching the same aggregates cannot deadlock
+    private void lockAggregates(List<Row> rows) {
+        String[] keys = rows.stream().map(row -> row.aggregateType() + ":" + row.aggregateId()).distinct().toArray(String[]::new);
+        jdbcTemplate.queryForObject(
+                "SELECT count(pg_advisory_xact_lock(?, h)) FROM " +
+                "(SELECT DISTINCT hashtext(k) AS h FROM unnest(CAST(? AS TEXT[])) AS k ORDER BY h) aggregates",
+                Long.class, AGGREGATE_LOCK_CLASS, keys);
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    private record Row(String aggregateType, UUID aggregateId, String eventType, String payload) {}
+
+    private class Batch implements TransactionSynchronization {
+
+        private final List<Row> rows = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            lockAggregates(rows);
+            insert(rows);
+        }
+    }
+}
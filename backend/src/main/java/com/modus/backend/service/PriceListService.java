@@ -0,0 +1,187 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.Customer;
+import com.modus.backend.domain.entity.PriceList;
+import com.modus.backend.domain.entity.PriceListEntry;
+import com.modus.backend.domain.entity.Product;
+import com.modus.backend.domain.event.PriceListsChangedEvent;
+import com.modus.backend.domain.repository.CustomerRepository;
+import com.modus.backend.domain.repository.PriceListRepository;
+import com.modus.backend.domain.repository.ProductRepository;
+import com.modus.backend.dto.PricingDTO;
+import com.modus.backend.exception.BusinessException;
+import com.modus.backend.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Maintains price lists and quotes prices through the compiled PricingEngine. Every change publishes
+// PriceListsChangedEvent so the engine recompiles once the transaction has committed.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PriceListService {
+
+    private final PriceListRepository priceListRepository;
+    private final CustomerRepository customerRepository;
+    private final ProductRepository productRepository;
+    private final PricingEngine pricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<PricingDTO.PriceListResponse> getPriceLists() {
+        return priceListRepository.findAllByOrderByName().stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public PricingDTO.PriceListResponse getPriceList(UUID id) {
+        return priceListRepository.findDetailedById(id)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Price list not found: " + id));
+    }
+
+    @Transactional
+    public PricingDTO.PriceListResponse createPriceList(PricingDTO.PriceListRequest request) {
+        PriceList priceList = new PriceList();
+        apply(priceList, request);
+        PriceList saved = priceListRepository.save(priceList);
+        eventPublisher.publishEvent(new PriceListsChangedEvent(saved.getId()));
+        log.info("Price List Created: Id={}, Entries={}", saved.getId(), saved.getEntries().size());
+        return mapToResponse(saved);
+    }
+
+    @Transactional
+    public PricingDTO.PriceListResponse updatePriceList(UUID id, PricingDTO.PriceListRequest request) {
+        PriceList priceList = priceListRepository.findDetailedById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Price list not found: " + id));
+        apply(priceList, request);
+        PriceList saved = priceListRepository.save(priceList);
+        eventPublisher.publishEvent(new PriceListsChangedEvent(saved.getId()));
+        log.info("Price List Updated: Id={}, Entries={}", saved.getId(), saved.getEntries().size());
+        return mapToResponse(saved);
+    }
+
+    @Transactional
+    public void deletePriceList(UUID id) {
+        if (!priceListRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Price list not found: " + id);
+        }
+        priceListRepository.deleteById(id);
+        eventPublisher.publishEvent(new PriceListsChangedEvent(id));
+    }
+
+    // Prices every line from the compiled rules; only the customer and the products are read
+    @Transactional(readOnly = true)
+    public List<PricingDTO.QuotedLine> quote(PricingDTO.QuoteRequest request) {
+        Customer customer = customerRepository.findById(request.customerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Customer not found: " + request.customerId()));
+        Map<UUID, Product> products = findProducts(request.items().stream().map(PricingDTO.QuoteLine::productId).toList());
+        String currency = request.currency() != null ? request.currency() : "USD";
+        LocalDate date = request.date() != null ? request.date() : LocalDate.now();
+
+        return request.items().stream()
+                .map(line -> {
+                    PricingEngine.Price price = pricingEngine.price(products.get(line.productId()), customer, currency, line.quantity(), date);
+                    return new PricingDTO.QuotedLine(line.productId(), line.quantity(), price.unitPrice(), price.source(), price.priceListId());
+                })
+                .toList();
+    }
+
+    private void apply(PriceList priceList, PricingDTO.PriceListRequest request) {
+        if (request.customerId() != null && request.customerType() != null) {
+            throw new BusinessException("A price list applies to a customer or a customer type, not both");
+        }
+        if (request.validFrom() != null && request.validTo() != null && request.validTo().isBefore(request.validFrom())) {
+            throw new BusinessException("validTo must not be before validFrom");
+        }
+
+        Customer customer = null;
+        if (request.customerId() != null) {
+            customer = customerRepository.findById(request.customerId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Customer not found: " + request.customerId()));
+        }
+        Map<UUID, Product> products = findProducts(request.entries().stream().map(PricingDTO.EntryRequest::productId).toList());
+
+        priceList.setName(request.name());
+        priceList.setCurrency(request.currency() != null ? request.currency() : "USD");
+        priceList.setCustomer(customer);
+        priceList.setCustomerType(request.customerType());
+        priceList.setValidFrom(request.validFrom());
+        priceList.setValidTo(request.validTo());
+        priceList.setPriority(request.priority());
+
+        // Entries are matched on (product, minQuantity) and updated in place: Hibernate flushes inserts before
+        // deletes, so replacing a break with a new row would trip the unique constraint
+        Map<EntryKey, PricingDTO.EntryRequest> requested = new LinkedHashMap<>();
+        for (PricingDTO.EntryRequest entry : request.entries()) {
+            EntryKey key = new EntryKey(entry.productId(), entry.minQuantity() != null ? entry.minQuantity() : 1);
+            if (requested.putIfAbsent(key, entry) != null) {
+                throw new BusinessException("Duplicate quantity break " + key.minQuantity() + " for product " + entry.productId());
+            }
+        }
+        Iterator<PriceListEntry> existing = priceList.getEntries().iterator();
+        while (existing.hasNext()) {
+            PriceListEntry entry = existing.next();
+            PricingDTO.EntryRequest match = requested.remove(new EntryKey(entry.getProduct().getId(), entry.getMinQuantity()));
+            if (match == null) {
+                existing.remove();
+            } else {
+                entry.setUnitPrice(match.unitPrice());
+            }
+        }
+        requested.forEach((key, entry) -> priceList.getEntries().add(PriceListEntry.builder()
+                .priceList(priceList)
+                .product(products.get(key.productId()))
+                .minQuantity(key.minQuantity())
+                .unitPrice(entry.unitPrice())
+                .build()));
+    }
+
+    private Map<UUID, Product> findProducts(Collection<UUID> ids) {
+        Set<UUID> distinct = new HashSet<>(ids);
+        Map<UUID, Product> products = productRepository.findAllById(distinct).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        distinct.stream()
+                .filter(id -> !products.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new ResourceNotFoundException("Product not found: " + id);
+                });
+        return products;
+    }
+
+    private PricingDTO.PriceListResponse mapToResponse(PriceList priceList) {
+        Customer customer = priceList.getCustomer();
+        return new PricingDTO.PriceListResponse(
+                priceList.getId(),
+                priceList.getName(),
+                priceList.getCurrency(),
+                customer != null ? customer.getId() : null,
+                customer != null ? customer.getName() : null,
+                priceList.getCustomerType(),
+                priceList.getValidFrom(),
+                priceList.getValidTo(),
+                priceList.getPriority(),
+                priceList.getEntries().stream()
+                        .map(e -> new PricingDTO.EntryResponse(
+                                e.getId(),
+                                e.getProduct().getId(),
+                                e.getProduct().getSku(),
+                                e.getMinQuantity(),
+                                e.getUnitPrice()))
+                        .toList(),
+                priceList.getUpdatedAt()
+        );
+    }
+
+    private record EntryKey(UUID productId, int minQuantity) {}
+}
@@ -0,0 +1,201 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.Customer;
+import com.modus.backend.domain.entity.CustomerType;
+import com.modus.backend.domain.entity.Product;
+import com.modus.backend.domain.event.CustomerDeletedEvent;
+import com.modus.backend.domain.event.PriceListsChangedEvent;
+import com.modus.backend.dto.PricingDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+// Price lists compiled into an immutable lookup table: (product, currency, scope) -> rules ordered by precedence,
+// each with its quantity breaks as sorted arrays. Pricing a line is at most three hash lookups and a binary search;
+// the table is recompiled and swapped whenever price lists change.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PricingEngine {
+
+    private static final Comparator<Rule> PRECEDENCE = Comparator
+            .comparingInt(Rule::priority).reversed()
+            .thenComparing(Rule::validFrom, Comparator.reverseOrder())
+            .thenComparing(Rule::priceListId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FxRateService fxRateService;
+
+    private volatile Map<RuleKey, Rule[]> rules = Map.of();
+
+    @PostConstruct
+    void load() {
+        rebuild();
+    }
+
+    // Customer-specific lists beat customer-type lists, which beat general lists. Within a scope the highest
+    // priority (then the most recently started) list that is effective on the date and has a break for the
+    // quantity wins. Without any, the product's own unit price applies, converted from the base currency; with no
+    // rate for the currency on the date there is no price.
+    public Price price(Product product, Customer customer, String currency, int quantity, LocalDate date) {
+        Map<RuleKey, Rule[]> current = rules;
+        long day = date.toEpochDay();
+        Price price = match(current.get(new RuleKey(product.getId(), currency, customer.getId(), null)),
+                PricingDTO.Source.CUSTOMER, quantity, day);
+        if (price == null && customer.getType() != null) {
+            price = match(current.get(new RuleKey(product.getId(), currency, null, customer.getType())),
+                    PricingDTO.Source.CUSTOMER_TYPE, quantity, day);
+        }
+        if (price == null) {
+            price = match(current.get(new RuleKey(product.getId(), currency, null, null)),
+                    PricingDTO.Source.GENERAL, quantity, day);
+        }
+        return price != null ? price : new Price(listPrice(product, currency, date), PricingDTO.Source.LIST_PRICE, null);
+    }
+
+    private BigDecimal listPrice(Product product, String currency, LocalDate date) {
+        BigDecimal unitPrice = product.getUnitPrice();
+        if (unitPrice == null || fxRateService.getBaseCurrency().equals(currency)) {
+            return unitPrice;
+        }
+        // A rate converts the currency into the base currency
+        return fxRateService.rate(currency, date)
+                .map(rate -> unitPrice.divide(rate, 2, RoundingMode.HALF_UP))
+                .orElse(null);
+    }
+
+    @TransactionalEventListener
+    public void onPriceListsChanged(PriceListsChangedEvent event) {
+        rebuild();
+    }
+
+    // Customer price lists go with the customer (ON DELETE CASCADE)
+    @TransactionalEventListener
+    public void onCustomerDeleted(CustomerDeletedEvent event) {
+        rebuild();
+    }
+
+    // Picks up changes made through other instances
+    @Scheduled(fixedDelayString = "${application.pricing.refresh-interval:PT5M}",
+               initialDelayString = "${application.pricing.refresh-interval:PT5M}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        Map<RuleKey, List<Rule>> compiled = new HashMap<>();
+        RuleBuilder[] open = new RuleBuilder[1];
+        jdbcTemplate.query(
+                "SELECT l.id, l.currency, l.customer_id, l.customer_type, l.valid_from, l.valid_to, l.priority, " +
+                "       e.product_id, e.min_quantity, e.unit_price " +
+                "FROM price_lists l JOIN price_list_entries e ON e.price_list_id = l.id " +
+                "ORDER BY l.id, e.product_id, e.min_quantity",
+                rs -> {
+                    UUID priceListId = rs.getObject("id", UUID.class);
+                    UUID productId = rs.getObject("product_id", UUID.class);
+                    RuleBuilder builder = open[0];
+                    if (builder == null || !builder.priceListId.equals(priceListId) || !builder.productId.equals(productId)) {
+                        if (builder != null) {
+                            builder.addTo(compiled);
+                        }
+                        String customerType = rs.getString("customer_type");
+                        Date validFrom = rs.getDate("valid_from");
+                        Date validTo = rs.getDate("valid_to");
+                        builder = new RuleBuilder(
+                                priceListId,
+                                productId,
+                                rs.getString("currency"),
+                                rs.getObject("customer_id", UUID.class),
+                                customerType != null ? CustomerType.valueOf(customerType) : null,
+                                validFrom != null ? validFrom.toLocalDate().toEpochDay() : Long.MIN_VALUE,
+                                validTo != null ? validTo.toLocalDate().toEpochDay() : Long.MAX_VALUE,
+                                rs.getInt("priority"));
+                        open[0] = builder;
+                    }
+                    builder.minQuantities.add(rs.getInt("min_quantity"));
+                    builder.prices.add(rs.getBigDecimal("unit_price"));
+                });
+        if (open[0] != null) {
+            open[0].addTo(compiled);
+        }
+
+        Map<RuleKey, Rule[]> table = new HashMap<>(compiled.size() * 2);
+        int ruleCount = 0;
+        for (Map.Entry<RuleKey, List<Rule>> entry : compiled.entrySet()) {
+            Rule[] ordered = entry.getValue().toArray(Rule[]::new);
+            Arrays.sort(ordered, PRECEDENCE);
+            table.put(entry.getKey(), ordered);
+            ruleCount += ordered.length;
+        }
+        rules = table;
+        log.info("Price Rules Compiled: Keys={}, Rules={}, DurationMs={}",
+                 table.size(), ruleCount, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static Price match(Rule[] candidates, PricingDTO.Source source, int quantity, long day) {
+        if (candidates == null) {
+            return null;
+        }
+        for (Rule rule : candidates) {
+            if (day < rule.validFrom() || day > rule.validTo()) {
+                continue;
+            }
+            // Highest break not above the quantity
+            int index = Arrays.binarySearch(rule.minQuantities(), quantity);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            if (index >= 0) {
+                return new Price(rule.prices()[index], source, rule.priceListId());
+            }
+        }
+        return null;
+    }
+
+    public record Price(BigDecimal unitPrice, PricingDTO.Source source, UUID priceListId) {}
+
+    // customerId and customerType are both null for general lists
+    private record RuleKey(UUID productId, String currency, UUID customerId, CustomerType customerType) {}
+
+    private record Rule(UUID priceListId, long validFrom, long validTo, int priority, int[] minQuantities, BigDecimal[] prices) {}
+
+    private static final class RuleBuilder {
+
+        private final UUID priceListId;
+        private final UUID productId;
+        private final String currency;
+        private final UUID customerId;
+        private final CustomerType customerType;
+        private final long validFrom;
+        private final long validTo;
+        private final int priority;
+        private final List<Integer> minQuantities = new ArrayList<>();
+        private final List<BigDecimal> prices = new ArrayList<>();
+
+        private RuleBuilder(UUID priceListId, UUID productId, String currency, UUID customerId, CustomerType customerType,
+                            long validFrom, long validTo, int priority) {
+            this.priceListId = priceListId;
+            this.productId = productId;
+            this.currency = currency;
+            this.customerId = customerId;
+            this.customerType = customerType;
+            this.validFrom = validFrom;
+            this.validTo = validTo;
+            this.priority = priority;
+        }
+
+        private void addTo(Map<RuleKey, List<Rule>> compiled) {
+            Rule rule = new Rule(priceListId, validFrom, validTo, priority,
+                    minQuantities.stream().mapToInt(Integer::intValue).toArray(),
+                    prices.toArray(BigDecimal[]::new));
+            compiled.computeIfAbsent(new RuleKey(productId, currency, customerId, customerType), k -> new ArrayList<>()).add(rule);
+        }
+    }
+}
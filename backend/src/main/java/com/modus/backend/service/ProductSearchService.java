@@ -0,0 +1,130 @@
+package com.modus.backend.service;
+
+import com.modus.backend.dto.ProductSearchDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Product search on PostgreSQL indexes (V18). Search ranks full-text matches of every word as a prefix
+// (search_vector) and trigram matches that tolerate typos. Autocomplete runs cheap tiers in order and stops once
+// it has enough suggestions: SKU prefix, name prefix (both index range scans that return rows already sorted),
+// word prefix anywhere in the name, then typo-tolerant name matches.
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    // search_vector weights (V18): A = SKU, B = name, C = description
+    private static final String ALL_FIELDS = "";
+    private static final String NAME_FIELD = "B";
+
+    private static final RowMapper<ProductSearchDTO.Hit> HIT_MAPPER = (rs, rowNum) -> new ProductSearchDTO.Hit(
+            rs.getObject("id", UUID.class),
+            rs.getString("sku"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getString("unit"),
+            rs.getBigDecimal("unit_price"),
+            rs.getDouble("rank")
+    );
+    private static final RowMapper<ProductSearchDTO.Suggestion> SUGGESTION_MAPPER = (rs, rowNum) -> new ProductSearchDTO.Suggestion(
+            rs.getObject("id", UUID.class),
+            rs.getString("sku"),
+            rs.getString("name")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ProductSearchDTO.Hit> search(String q, int limit) {
+        String term = normalize(q);
+        String prefixQuery = prefixQuery(term, ALL_FIELDS);
+        if (prefixQuery == null) {
+            return List.of();
+        }
+        int boundedLimit = Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+        // An exact or prefix SKU hit outranks any text match
+        return jdbcTemplate.query(
+                "WITH q AS (SELECT to_tsquery('simple', ?) AS tsq, CAST(? AS TEXT) AS term) " +
+                "SELECT p.id, p.sku, p.name, p.description, p.unit, p.unit_price, " +
+                "       ts_rank(p.search_vector, q.tsq) " +
+                "       + word_similarity(q.term, lower(p.name)) " +
+                "       + CASE WHEN lower(p.sku) = q.term THEN 2 WHEN starts_with(lower(p.sku), q.term) THEN 1 ELSE 0 END AS rank " +
+                "FROM products p, q " +
+                "WHERE p.search_vector @@ q.tsq OR q.term <% lower(p.name) OR lower(p.sku) % q.term " +
+                "ORDER BY rank DESC, p.name, p.id " +
+                "LIMIT ?",
+                HIT_MAPPER, prefixQuery, term, boundedLimit);
+    }
+
+    public List<ProductSearchDTO.Suggestion> autocomplete(String q, int limit) {
+        String term = normalize(q);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+        int boundedLimit = Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        Map<UUID, ProductSearchDTO.Suggestion> suggestions = new LinkedHashMap<>();
+
+        collect(suggestions, boundedLimit, prefixRange("sku", term, boundedLimit));
+        if (suggestions.size() < boundedLimit) {
+            collect(suggestions, boundedLimit, prefixRange("name", term, boundedLimit));
+        }
+        // A one-character word prefix matches too much of the catalog to sort within budget. Only the name's
+        // lexemes count here, so a word that appears in the description alone does not make a suggestion.
+        String prefixQuery = prefixQuery(term, NAME_FIELD);
+        if (suggestions.size() < boundedLimit && prefixQuery != null && term.length() >= 2) {
+            collect(suggestions, boundedLimit, jdbcTemplate.query(
+                    "SELECT id, sku, name FROM products WHERE search_vector @@ to_tsquery('simple', ?) " +
+                    "ORDER BY length(name), name, id LIMIT ?",
+                    SUGGESTION_MAPPER, prefixQuery, boundedLimit));
+        }
+        // Typos only once a few characters have been typed; shorter terms match too much
+        if (suggestions.size() < boundedLimit && term.length() >= 3) {
+            collect(suggestions, boundedLimit, jdbcTemplate.query(
+                    "SELECT id, sku, name FROM products WHERE ? <% lower(name) " +
+                    "ORDER BY word_similarity(?, lower(name)) DESC, name, id LIMIT ?",
+                    SUGGESTION_MAPPER, term, term, boundedLimit));
+        }
+        return new ArrayList<>(suggestions.values());
+    }
+
+    // [term, term with its last character incremented) over the byte-ordered prefix index
+    private List<ProductSearchDTO.Suggestion> prefixRange(String column, String term, int limit) {
+        String key = "lower(" + column + ") COLLATE \"C\"";
+        int last = term.codePointBefore(term.length());
+        String upper = term.substring(0, term.length() - Character.charCount(last)) + Character.toString(last + 1);
+        return jdbcTemplate.query(
+                "SELECT id, sku, name FROM products WHERE " + key + " >= ? AND " + key + " < ? ORDER BY " + key + ", id LIMIT ?",
+                SUGGESTION_MAPPER, term, upper, limit);
+    }
+
+    private static void collect(Map<UUID, ProductSearchDTO.Suggestion> into, int limit, List<ProductSearchDTO.Suggestion> found) {
+        for (ProductSearchDTO.Suggestion suggestion : found) {
+            if (into.size() >= limit) {
+                return;
+            }
+            into.putIfAbsent(suggestion.id(), suggestion);
+        }
+    }
+
+    private static String normalize(String q) {
+        return q == null ? "" : q.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // "hex bo" -> "hex:* & bo:*" ("hex:*B & bo:*B" for the name only); only letters and digits reach to_tsquery,
+    // so its syntax cannot be injected
+    private static String prefixQuery(String term, String weights) {
+        Matcher matcher = WORD.matcher(term);
+        List<String> words = new ArrayList<>();
+        while (matcher.find()) {
+            words.add(matcher.group() + ":*" + weights);
+        }
+        return words.isEmpty() ? null : String.join(" & ", words);
+    }
+}
@@ -1,24 +1,42 @@
 package com.modus.backend.service;
 
 import com.modus.backend.domain.entity.Product;
+import com.modus.backend.domain.event.ProductCreatedEvent;
 import com.modus.backend.domain.repository.ProductRepository;
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.ProductRequest;
 import com.modus.backend.dto.ProductResponse;
 import com.modus.backend.exception.BusinessException;
 import com.modus.backend.exception.ResourceNotFoundException;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final Map<String, SortField<Product>> SORT_FIELDS = Map.of(
+            "name", SortField.ofString("name", Product::getName),
+            "sku", SortField.ofString("sku", Product::getSku),
+            "createdAt", SortField.ofInstant("createdAt", Product::getCreatedAt)
+    );
+
     private final ProductRepository productRepository;
+    private final KeysetPager keysetPager;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public ProductResponse createProduct(ProductRequest request) {
         if (productRepository.existsBySku(request.sku())) {
             throw new BusinessException("Product with SKU " + request.sku() + " already exists.");
@@ -32,13 +50,26 @@ public class ProductService {
                 .unitPrice(request.unitPrice())
                 .build();
 
-        return mapToResponse(productRepository.save(product));
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductCreatedEvent(saved.getId(), saved.getSku(), saved.getName(), Instant.now()));
+        return mapToResponse(saved);
     }
 
-    public List<ProductResponse> getAllProducts() {
-        return productRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<ProductResponse> getProducts(String q, String unit, String sort, String cursor, int limit) {
+        Specification<Product> filter = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (q != null && !q.isBlank()) {
+                String pattern = "%" + q.trim().toLowerCase(Locale.ROOT) + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("name")), pattern),
+                        cb.like(cb.lower(root.get("sku")), pattern)));
+            }
+            if (unit != null && !unit.isBlank()) {
+                predicates.add(cb.equal(root.get("unit"), unit));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+        return keysetPager.page(Product.class, filter, SORT_FIELDS, Product::getId, sort, cursor, limit, this::mapToResponse);
     }
 
     public ProductResponse getProduct(UUID id) {
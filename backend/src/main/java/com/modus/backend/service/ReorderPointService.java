@@ -0,0 +1,79 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.Product;
+import com.modus.backend.domain.entity.ReorderPoint;
+import com.modus.backend.domain.entity.Warehouse;
+import com.modus.backend.domain.event.ReorderPointsChangedEvent;
+import com.modus.backend.domain.repository.ProductRepository;
+import com.modus.backend.domain.repository.ReorderPointRepository;
+import com.modus.backend.domain.repository.WarehouseRepository;
+import com.modus.backend.dto.ReorderPointDTO;
+import com.modus.backend.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ReorderPointService {
+
+    private final ReorderPointRepository reorderPointRepository;
+    private final ProductRepository productRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<ReorderPointDTO.Response> getReorderPoints(UUID productId) {
+        return reorderPointRepository.findByProductIdOrderByCreatedAt(productId).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    // Creates or replaces the reorder point of the product (or of the product in one warehouse)
+    @Transactional
+    public ReorderPointDTO.Response setReorderPoint(ReorderPointDTO.Request request) {
+        Product product = productRepository.findById(request.productId())
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
+        Warehouse warehouse = null;
+        if (request.warehouseId() != null) {
+            warehouse = warehouseRepository.findById(request.warehouseId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Warehouse not found"));
+        }
+
+        ReorderPoint reorderPoint = (warehouse == null
+                ? reorderPointRepository.findByProductIdAndWarehouseIsNull(product.getId())
+                : reorderPointRepository.findByProductIdAndWarehouseId(product.getId(), warehouse.getId()))
+                .orElseGet(ReorderPoint::new);
+        reorderPoint.setProduct(product);
+        reorderPoint.setWarehouse(warehouse);
+        reorderPoint.setThreshold(request.threshold());
+
+        ReorderPoint saved = reorderPointRepository.save(reorderPoint);
+        eventPublisher.publishEvent(new ReorderPointsChangedEvent(product.getId()));
+        return mapToResponse(saved);
+    }
+
+    @Transactional
+    public void deleteReorderPoint(UUID id) {
+        ReorderPoint reorderPoint = reorderPointRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Reorder point not found with id: " + id));
+        reorderPointRepository.delete(reorderPoint);
+        eventPublisher.publishEvent(new ReorderPointsChangedEvent(reorderPoint.getProduct().getId()));
+    }
+
+    private ReorderPointDTO.Response mapToResponse(ReorderPoint reorderPoint) {
+        Warehouse warehouse = reorderPoint.getWarehouse();
+        return new ReorderPointDTO.Response(
+                reorderPoint.getId(),
+                reorderPoint.getProduct().getId(),
+                warehouse != null ? warehouse.getId() : null,
+                warehouse != null ? warehouse.getName() : null,
+                reorderPoint.getThreshold(),
+                reorderPoint.getUpdatedAt()
+        );
+    }
+}
@@ -1,60 +1,157 @@
 package com.modus.backend.service;
 
-import com.modus.backend.domain.entity.DemandStatus;
 import com.modus.backend.domain.entity.OfferStatus;
-import com.modus.backend.domain.repository.CustomerRepository;
-import com.modus.backend.domain.repository.DemandRepository;
-import com.modus.backend.domain.repository.OfferRepository;
-import com.modus.backend.domain.repository.ProductRepository;
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.ReportDTO;
-import com.modus.backend.dto.StockSummaryResponse;
+import com.modus.backend.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+// The dashboard sections are independent, so they run side by side on virtual threads and the page costs as much
+// as its slowest section. Each section must finish within the section timeout; one that fails or misses it is left
+// empty and listed as degraded instead of failing the whole dashboard.
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ReportService {
 
-    private final ProductRepository productRepository;
-    private final CustomerRepository customerRepository;
-    private final DemandRepository demandRepository;
-    private final OfferRepository offerRepository;
-    private final StockService stockService;
+    private static final int MAX_ACTIVITY_PAGE_SIZE = 200;
+
+    private final DashboardCounters dashboardCounters;
+    private final LowStockIndex lowStockIndex;
+    private final ActivityFeed activityFeed;
+    private final InventoryValuationService inventoryValuationService;
+    private final OfferTotals offerTotals;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${application.reports.dashboard.section-timeout:PT2S}")
+    private Duration sectionTimeout;
 
     public ReportDTO.DashboardData getDashboardData() {
-        long totalProducts = productRepository.count();
-        long totalCustomers = customerRepository.count();
-        long pendingDemands = demandRepository.countByStatus(DemandStatus.PENDING);
-        BigDecimal totalAcceptedOfferValue = offerRepository.sumTotalAmountByStatus(OfferStatus.ACCEPTED);
-
-        // Logic for Low Stock: Get all stock, filter by quantity < 10
-        List<ReportDTO.LowStockItem> lowStockItems = stockService.getGlobalStockOverview().stream()
-                .filter(s -> s.quantity().longValue() < 10)
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            long deadline = System.nanoTime() + sectionTimeout.toNanos();
+            Future<DashboardCounters.Snapshot> countersBranch = executor.submit(dashboardCounters::snapshot);
+            Future<List<ReportDTO.LowStockItem>> lowStockBranch = executor.submit(this::getLowStockItems);
+            Future<List<ReportDTO.RecentActivity>> activityBranch = executor.submit(() -> activityFeed.getRecent(10));
+            Future<BigDecimal> inventoryValueBranch = executor.submit(readOnly(inventoryValuationService::getTotalValue));
+            Future<OfferTotals.Value> acceptedOffersBranch = executor.submit(readOnly(() -> offerTotals.getValue(OfferStatus.ACCEPTED)));
+
+            List<String> degraded = new ArrayList<>();
+            DashboardCounters.Snapshot counters = await("counters", countersBranch, deadline, degraded);
+            List<ReportDTO.LowStockItem> lowStockItems = await("lowStock", lowStockBranch, deadline, degraded);
+            List<ReportDTO.RecentActivity> recentActivities = await("recentActivity", activityBranch, deadline, degraded);
+            BigDecimal inventoryValue = await("inventoryValue", inventoryValueBranch, deadline, degraded);
+            OfferTotals.Value acceptedOffers = await("acceptedOfferValue", acceptedOffersBranch, deadline, degraded);
+            if (acceptedOffers != null && acceptedOffers.baseTotal() == null) {
+                // Per-currency totals are still shown; only the conversion is missing a rate
+                degraded.add("acceptedOfferValue");
+            }
+
+            return new ReportDTO.DashboardData(
+                    counters != null ? counters.totalProducts() : null,
+                    counters != null ? counters.totalCustomers() : null,
+                    counters != null ? counters.pendingDemands() : null,
+                    acceptedOffers != null ? acceptedOffers.baseCurrency() : null,
+                    acceptedOffers != null ? acceptedOffers.baseTotal() : null,
+                    acceptedOffers != null ? acceptedOffers.byCurrency() : Map.of(),
+                    inventoryValue,
+                    lowStockItems != null ? lowStockItems : List.of(),
+                    recentActivities != null ? recentActivities : List.of(),
+                    degraded
+            );
+        } finally {
+            // Branches still running are interrupted and left to finish on their own; the response does not wait for them
+            executor.shutdownNow();
+        }
+    }
+
+    // Without a cursor the feed is served from memory; paging further back reads the activities table merged with
+    // the entries not yet flushed to it.
+    // Cursor layout: occurredAt|id of the last returned entry.
+    public CursorPage<ReportDTO.RecentActivity> getActivities(String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_ACTIVITY_PAGE_SIZE);
+        if (cursor == null || cursor.isBlank()) {
+            List<ReportDTO.RecentActivity> recent = activityFeed.getRecent(pageSize);
+            return new CursorPage<>(recent, recent.size() == pageSize ? toCursor(recent.get(pageSize - 1)) : null);
+        }
+
+        String[] values = CursorCodec.decode(cursor, 2);
+        Instant beforeOccurredAt;
+        UUID beforeId;
+        try {
+            beforeOccurredAt = Instant.parse(values[0]);
+            beforeId = UUID.fromString(values[1]);
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+        // One row past the page tells us whether there is a next page
+        List<ReportDTO.RecentActivity> rows = activityFeed.getBefore(beforeOccurredAt, beforeId, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<ReportDTO.RecentActivity> page = List.copyOf(rows.subList(0, pageSize));
+        return new CursorPage<>(page, toCursor(page.get(pageSize - 1)));
+    }
+
+    private static String toCursor(ReportDTO.RecentActivity activity) {
+        return CursorCodec.encode(activity.timestamp(), activity.id().toString());
+    }
+
+    private List<ReportDTO.LowStockItem> getLowStockItems() {
+        return lowStockIndex.getLowStock(null, 5).stream()
                 .map(s -> new ReportDTO.LowStockItem(
                         s.productId(),
                         s.productName(),
                         s.sku(),
                         s.quantity().longValue()
                 ))
-                .limit(5)
                 .collect(Collectors.toList());
-        
-        // Placeholder for recent activities (could be fetched from StockMovements later)
-        List<ReportDTO.RecentActivity> recentActivities = List.of(
-            new ReportDTO.RecentActivity("System started", "Just now")
-        );
-
-        return new ReportDTO.DashboardData(
-                totalProducts,
-                totalCustomers,
-                pendingDemands,
-                totalAcceptedOfferValue,
-                lowStockItems,
-                recentActivities
-        );
+    }
+
+    // Database branches get their own read-only transaction; its timeout also bounds the statements, so an
+    // abandoned branch stops on the server side as well
+    private <T> Callable<T> readOnly(Supplier<T> query) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout((int) Math.max(1, sectionTimeout.toSeconds()));
+        return () -> template.execute(status -> query.get());
+    }
+
+    private <T> T await(String section, Future<T> branch, long deadline, List<String> degraded) {
+        try {
+            return branch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            branch.cancel(true);
+            log.warn("Dashboard Section Timed Out: Section={}, Timeout={}", section, sectionTimeout);
+        } catch (ExecutionException e) {
+            log.warn("Dashboard Section Failed: Section={}", section, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            branch.cancel(true);
+        }
+        degraded.add(section);
+        return null;
     }
 }
@@ -0,0 +1,31 @@
+package com.modus.backend.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+// A column a list endpoint may be sorted on: how to read it from a row and how to parse it back out of a cursor.
+// Nullable columns sort their nulls last in both directions.
+record SortField<T>(String property, Function<T, ?> extractor, Function<String, ? extends Comparable<?>> parser, boolean nullable) {
+
+    static <T> SortField<T> ofString(String property, Function<T, String> extractor) {
+        return new SortField<>(property, extractor, Function.<String>identity(), false);
+    }
+
+    static <T> SortField<T> ofInstant(String property, Function<T, Instant> extractor) {
+        return new SortField<>(property, extractor, Instant::parse, false);
+    }
+
+    static <T> SortField<T> ofDateTime(String property, Function<T, LocalDateTime> extractor) {
+        return new SortField<>(property, extractor, LocalDateTime::parse, false);
+    }
+
+    static <T> SortField<T> ofDecimal(String property, Function<T, BigDecimal> extractor) {
+        return new SortField<>(property, extractor, BigDecimal::new, false);
+    }
+
+    SortField<T> orNull() {
+        return new SortField<>(property, extractor, parser, true);
+    }
+}
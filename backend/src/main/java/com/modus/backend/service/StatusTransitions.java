@@ -0,0 +1,68 @@
+package com.modus.backend.service;
+
+import com.modus.backend.exception.ConflictException;
+import com.modus.backend.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Status transitions as one guarded UPDATE: the row changes only if its status is one the transition may start
+// from (and, when given, its version is the one the client read). Two concurrent transitions cannot both pass the
+// guard, and the happy path is a single statement. The subselect locks the row and returns the status it had.
+@Component
+@RequiredArgsConstructor
+class StatusTransitions {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Returns the previous status; equal to the target when the row already had it (nothing is written then)
+    <S extends Enum<S>> S transition(Table table, UUID id, Collection<S> from, S to, Long expectedVersion, Class<S> statusType) {
+        String[] sources = from.stream().filter(s -> s != to).map(Enum::name).toArray(String[]::new);
+        List<String> previous = jdbcTemplate.queryForList(
+                "UPDATE " + table.name + " t SET status = ?, version = t.version + 1, updated_at = LOCALTIMESTAMP " +
+                "FROM (SELECT id, status FROM " + table.name + " WHERE id = ? FOR UPDATE) prev " +
+                "WHERE t.id = prev.id AND prev.status = ANY (?) AND (CAST(? AS BIGINT) IS NULL OR t.version = ?) " +
+                "RETURNING prev.status",
+                String.class,
+                to.name(), id, sources, expectedVersion, expectedVersion);
+        if (!previous.isEmpty()) {
+            return Enum.valueOf(statusType, previous.get(0));
+        }
+
+        // Lost the guard: explain why from the row as it is now
+        List<Map<String, Object>> current = jdbcTemplate.queryForList(
+                "SELECT status, version FROM " + table.name + " WHERE id = ?", id);
+        if (current.isEmpty()) {
+            throw new ResourceNotFoundException(table.label + " not found: " + id);
+        }
+        S status = Enum.valueOf(statusType, (String) current.get(0).get("status"));
+        long version = ((Number) current.get(0).get("version")).longValue();
+        if (expectedVersion != null && expectedVersion != version) {
+            throw new ConflictException(table.label + " was changed by another request (version " + version +
+                    ", expected " + expectedVersion + "); reload and try again");
+        }
+        if (status == to) {
+            return to;
+        }
+        throw new ConflictException("Cannot change status of " + table.label.toLowerCase() + " " + id +
+                " from " + status + " to " + to);
+    }
+
+    enum Table {
+        OFFERS("offers", "Offer"),
+        DEMANDS("demands", "Demand");
+
+        private final String name;
+        private final String label;
+
+        Table(String name, String label) {
+            this.name = name;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package com.modus.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modus.backend.domain.entity.StockMovementType;
+import com.modus.backend.domain.entity.Warehouse;
+import com.modus.backend.domain.event.StockBalancesChangedEvent;
+import com.modus.backend.domain.repository.ProductRepository;
+import com.modus.backend.domain.repository.StockBalanceRepository;
+import com.modus.backend.domain.repository.StockSnapshotRepository;
+import com.modus.backend.domain.repository.WarehouseRepository;
+import com.modus.backend.dto.StockImportDTO;
+import com.modus.backend.exception.BusinessException;
+import com.modus.backend.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final List<String> CSV_COLUMNS = List.of("sku", "warehouse", "type", "quantity", "createdAt", "note", "unitCost");
+
+    private final ProductRepository productRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final StockBalanceRepository stockBalanceRepository;
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final StockRollupService stockRollupService;
+    private final StockPartitionService stockPartitionService;
+    private final InventoryValuationService inventoryValuationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${application.stock.import.job-retention:PT24H}")
+    private Duration jobRetention;
+
+    // Finished jobs stay queryable for job-retention, then evictFinishedJobs drops them
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    // Imports run one at a time so a migration never competes with itself for balance rows
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "stock-import"));
+
+    public StockImportDTO.Status startImport(MultipartFile file, StockImportDTO.Format format) {
+        if (file.isEmpty()) {
+            throw new BusinessException("Import file is empty");
+        }
+        StockImportDTO.Format resolvedFormat = format != null ? format : detectFormat(file.getOriginalFilename());
+
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("stock-import-", ".tmp");
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            throw new BusinessException("Could not store import file: " + e.getMessage());
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID(), file.getOriginalFilename());
+        jobs.put(job.id, job);
+        executor.submit(() -> runImport(job, tempFile, resolvedFormat));
+        log.info("Stock Import Queued: Job={}, File={}, Format={}", job.id, job.fileName, resolvedFormat);
+        return job.toStatus();
+    }
+
+    public StockImportDTO.Status getStatus(UUID id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found: " + id);
+        }
+        return job.toStatus();
+    }
+
+    @Scheduled(fixedDelayString = "${application.stock.import.job-cleanup-interval:PT10M}")
+    public void evictFinishedJobs() {
+        Instant cutoff = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void runImport(ImportJob job, Path file, StockImportDTO.Format format) {
+        job.start();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, UUID> productsBySku = loadProductLookup();
+            Map<String, UUID> warehousesByKey = loadWarehouseLookup();
+            Instant ledgerFloor = stockPartitionService.findLedgerFloor();
+
+            List<String> header = null;
+            long lineNumber = 0;
+            if (format == StockImportDTO.Format.CSV) {
+                String headerLine = reader.readLine();
+                lineNumber++;
+                header = headerLine != null ? parseCsvLine(headerLine) : CSV_COLUMNS;
+            }
+
+            List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                job.linesRead.incrementAndGet();
+                try {
+                    Map<String, String> fields = format == StockImportDTO.Format.CSV
+                            ? toFieldMap(header, parseCsvLine(line))
+                            : toFieldMap(objectMapper.readTree(line));
+                    chunk.add(toRow(lineNumber, fields, productsBySku, warehousesByKey, ledgerFloor));
+                } catch (IllegalArgumentException | IOException e) {
+                    job.reject(lineNumber, e.getMessage());
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    flush(job, chunk);
+                    chunk.clear();
+                    // A long run may outlive a detach on another instance
+                    ledgerFloor = stockPartitionService.findLedgerFloor();
+                    log.info("Stock Import Progress: Job={}, Lines={}, Imported={}, Rejected={}",
+                             job.id, job.linesRead.get(), job.imported.get(), job.rejected.get());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                flush(job, chunk);
+            }
+            job.finish(StockImportDTO.State.COMPLETED, null);
+            log.info("Stock Import Completed: Job={}, Lines={}, Imported={}, Rejected={}",
+                     job.id, job.linesRead.get(), job.imported.get(), job.rejected.get());
+        } catch (Exception e) {
+            job.finish(StockImportDTO.State.FAILED, e.getMessage());
+            log.error("Stock Import Failed: Job={}, Imported={}", job.id, job.imported.get(), e);
+        } finally {
+            revalue(job);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file, e);
+            }
+        }
+    }
+
+    private void flush(ImportJob job, List<ImportRow> chunk) {
+        Set<BalanceKey> insufficient = writeChunk(chunk);
+        for (ImportRow row : chunk) {
+            if (insufficient.contains(row.key())) {
+                job.reject(row.line(), "Insufficient stock: the chunk's net outflow for this SKU and warehouse exceeds the balance");
+            } else {
+                job.products.add(row.productId());
+                job.imported.incrementAndGet();
+            }
+        }
+    }
+
+    // One bounded transaction per chunk: guarded balance deltas, batched ledger insert, daily rollups, stale snapshot cleanup.
+    // Returns the keys left out because their net outflow would take the balance below zero.
+    private Set<BalanceKey> writeChunk(List<ImportRow> chunk) {
+        // Created up front in their own statements so the chunk transaction never waits on partition DDL
+        stockPartitionService.ensureMonths(chunk.stream()
+                .map(row -> YearMonth.from(row.createdAt().atOffset(ZoneOffset.UTC)))
+                .collect(Collectors.toCollection(TreeSet::new)));
+
+        return transactionTemplate.execute(status -> {
+            Map<BalanceKey, BigDecimal> deltas = new TreeMap<>();
+            for (ImportRow row : chunk) {
+                deltas.merge(row.key(), row.type().isInbound() ? row.quantity() : row.quantity().negate(), BigDecimal::add);
+            }
+            // Same guard as StockService.applyBalanceChanges, in key order; a key the balance cannot cover is left out whole
+            Set<BalanceKey> insufficient = new HashSet<>();
+            deltas.forEach((key, delta) -> {
+                if (delta.signum() >= 0) {
+                    stockBalanceRepository.applyDelta(key.productId(), key.warehouseId(), delta);
+                } else if (stockBalanceRepository.tryDecrement(key.productId(), key.warehouseId(), delta.negate()) == 0) {
+                    insufficient.add(key);
+                }
+            });
+            deltas.keySet().removeAll(insufficient);
+            List<ImportRow> accepted = chunk.stream().filter(row -> !insufficient.contains(row.key())).toList();
+            if (accepted.isEmpty()) {
+                return insufficient;
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO stock_movements (id, product_id, warehouse_id, type, quantity, unit_cost, note, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    accepted,
+                    accepted.size(),
+                    (ps, row) -> {
+                        ps.setObject(1, UUID.randomUUID());
+                        ps.setObject(2, row.productId());
+                        ps.setObject(3, row.warehouseId());
+                        ps.setString(4, row.type().name());
+                        ps.setBigDecimal(5, row.quantity());
+                        ps.setBigDecimal(6, row.unitCost());
+                        ps.setString(7, row.note());
+                        ps.setObject(8, row.createdAt().atOffset(ZoneOffset.UTC));
+                    });
+
+            Map<BalanceKey, TreeMap<LocalDate, BigDecimal[]>> days = new HashMap<>();
+            Instant earliest = Instant.MAX;
+            for (ImportRow row : accepted) {
+                BigDecimal[] inOut = days.computeIfAbsent(row.key(), k -> new TreeMap<>())
+                        .computeIfAbsent(LocalDate.ofInstant(row.createdAt(), ZoneOffset.UTC), d -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+                int side = row.type().isInbound() ? 0 : 1;
+                inOut[side] = inOut[side].add(row.quantity());
+
+                if (row.createdAt().isBefore(earliest)) {
+                    earliest = row.createdAt();
+                }
+            }
+            // Days are applied oldest first so each new day opens from an already corrected predecessor
+            deltas.keySet().forEach(key ->
+                    days.get(key).forEach((day, inOut) -> stockRollupService.record(key, day, inOut[0], inOut[1])));
+            // Keeps quantities and values moving with the balances; cost layer order is settled by the revaluation after the run
+            inventoryValuationService.apply(accepted.stream()
+                    .sorted(Comparator.comparing(ImportRow::createdAt))
+                    .map(row -> new InventoryValuationService.Line(row.productId(), row.warehouseId(), row.type(), row.quantity(),
+                            row.unitCost(), null, row.createdAt()))
+                    .toList());
+            eventPublisher.publishEvent(new StockBalancesChangedEvent(
+                    deltas.entrySet().stream()
+                            .map(e -> new StockBalancesChangedEvent.Delta(e.getKey().productId(), e.getKey().warehouseId(), e.getValue()))
+                            .toList(),
+                    Instant.now()
+            ));
+
+            // Back-dated movements invalidate every checkpoint taken after them
+            stockSnapshotRepository.deleteSnapshotsFrom(earliest);
+            return insufficient;
+        });
+    }
+
+    private ImportRow toRow(long line, Map<String, String> fields, Map<String, UUID> productsBySku, Map<String, UUID> warehousesByKey,
+                            Instant ledgerFloor) {
+        String sku = required(fields, "sku");
+        UUID productId = productsBySku.get(sku);
+        if (productId == null) {
+            throw new IllegalArgumentException("Unknown SKU: " + sku);
+        }
+
+        String warehouse = required(fields, "warehouse");
+        UUID warehouseId = warehousesByKey.get(warehouse.toLowerCase(Locale.ROOT));
+        if (warehouseId == null) {
+            throw new IllegalArgumentException("Unknown warehouse: " + warehouse);
+        }
+
+        StockMovementType type;
+        try {
+            type = StockMovementType.valueOf(required(fields, "type").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid type: " + fields.get("type"));
+        }
+
+        BigDecimal quantity;
+        try {
+            quantity = new BigDecimal(required(fields, "quantity"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid quantity: " + fields.get("quantity"));
+        }
+        if (quantity.signum() <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+
+        Instant createdAt;
+        try {
+            createdAt = Instant.parse(required(fields, "createdAt"));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid createdAt (expected ISO-8601 instant): " + fields.get("createdAt"));
+        }
+        if (ledgerFloor != null && !createdAt.isAfter(ledgerFloor)) {
+            throw new IllegalArgumentException("createdAt falls in an archived ledger period (before " + ledgerFloor + ")");
+        }
+
+        BigDecimal unitCost = null;
+        String unitCostField = fields.get("unitCost");
+        if (unitCostField != null && !unitCostField.isBlank()) {
+            if (!type.isInbound()) {
+                throw new IllegalArgumentException("Unit cost can only be given for inbound movements");
+            }
+            try {
+                unitCost = new BigDecimal(unitCostField.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid unitCost: " + unitCostField);
+            }
+            if (unitCost.signum() < 0) {
+                throw new IllegalArgumentException("Unit cost must not be negative");
+            }
+        }
+
+        String note = fields.get("note");
+        return new ImportRow(line, productId, warehouseId, type, quantity, unitCost, note == null || note.isBlank() ? null : note, createdAt);
+    }
+
+    private String required(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing field: " + name);
+        }
+        return value.trim();
+    }
+
+    private Map<String, UUID> loadProductLookup() {
+        Map<String, UUID> lookup = new HashMap<>();
+        productRepository.findAllSkus().forEach(p -> lookup.put(p.getSku(), p.getId()));
+        return lookup;
+    }
+
+    // Warehouses can be referenced by id or (case-insensitive) name
+    private Map<String, UUID> loadWarehouseLookup() {
+        Map<String, UUID> lookup = new HashMap<>();
+        for (Warehouse warehouse : warehouseRepository.findAll()) {
+            lookup.put(warehouse.getId().toString(), warehouse.getId());
+            lookup.putIfAbsent(warehouse.getName().toLowerCase(Locale.ROOT), warehouse.getId());
+        }
+        return lookup;
+    }
+
+    private Map<String, String> toFieldMap(List<String> header, List<String> values) {
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("Expected at most " + header.size() + " columns but found " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header.get(i).trim(), values.get(i));
+        }
+        return fields;
+    }
+
+    private Map<String, String> toFieldMap(JsonNode node) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object per line");
+        }
+        Map<String, String> fields = new HashMap<>();
+        node.fields().forEachRemaining(e -> fields.put(e.getKey(), e.getValue().isNull() ? null : e.getValue().asText()));
+        return fields;
+    }
+
+    // RFC 4180 style fields on a single line: commas inside quotes, doubled quotes as escapes
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private StockImportDTO.Format detectFormat(String fileName) {
+        if (fileName != null) {
+            String lower = fileName.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+                return StockImportDTO.Format.NDJSON;
+            }
+        }
+        return StockImportDTO.Format.CSV;
+    }
+
+    // Back-dated rows change FIFO order retroactively, so the touched products are replayed from the ledger once the run ends
+    private void revalue(ImportJob job) {
+        if (job.products.isEmpty()) {
+            return;
+        }
+        try {
+            inventoryValuationService.recompute(job.products, true);
+        } catch (BusinessException e) {
+            log.warn("Stock Import Revaluation Skipped: Job={}, Reason={}", job.id, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Stock Import Revaluation Failed: Job={}", job.id, e);
+        }
+    }
+
+    private record ImportRow(long line, UUID productId, UUID warehouseId, StockMovementType type, BigDecimal quantity,
+                             BigDecimal unitCost, String note, Instant createdAt) {
+
+        BalanceKey key() {
+            return new BalanceKey(productId, warehouseId);
+        }
+    }
+
+    private static class ImportJob {
+        private final UUID id;
+        private final String fileName;
+        private final AtomicLong linesRead = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final List<StockImportDTO.LineError> errors = Collections.synchronizedList(new ArrayList<>());
+        private final Set<UUID> products = new HashSet<>();
+        private volatile StockImportDTO.State state = StockImportDTO.State.QUEUED;
+        private volatile String failureReason;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+
+        ImportJob(UUID id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        void start() {
+            startedAt = Instant.now();
+            state = StockImportDTO.State.RUNNING;
+        }
+
+        // Only the first errors are kept so memory stays flat however bad the file is
+        void reject(long line, String message) {
+            rejected.incrementAndGet();
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new StockImportDTO.LineError(line, message));
+            }
+        }
+
+        void finish(StockImportDTO.State finalState, String reason) {
+            failureReason = reason;
+            finishedAt = Instant.now();
+            state = finalState;
+        }
+
+        StockImportDTO.Status toStatus() {
+            List<StockImportDTO.LineError> reported;
+            synchronized (errors) {
+                reported = List.copyOf(errors);
+            }
+            return new StockImportDTO.Status(
+                    id,
+                    fileName,
+                    state,
+                    linesRead.get(),
+                    imported.get(),
+                    rejected.get(),
+                    reported,
+                    failureReason,
+                    startedAt,
+                    finishedAt
+            );
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.event.LedgerDetachingEvent;
+import com.modus.backend.domain.repository.StockSnapshotRepository;
+import com.modus.backend.dto.StockPartitionDTO;
+import com.modus.backend.exception.BusinessException;
+import com.modus.backend.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Lifecycle of the monthly stock_movements partitions: created ahead of time, re-indexed with BRIN once cold,
+// and detached (optionally into the stock_archive schema) on request, oldest first.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockPartitionService {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("stock_movements_(\\d{4})_(\\d{2})");
+    private static final String ARCHIVE_SCHEMA = "stock_archive";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${application.stock.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${application.stock.partitions.hot-months:3}")
+    private int hotMonths;
+
+    // Another instance may detach at any time, so the floor is re-read from the archive records once this is stale
+    @Value("${application.stock.partitions.ledger-floor-cache:PT30S}")
+    private Duration ledgerFloorCache;
+
+    private final Set<YearMonth> knownMonths = ConcurrentHashMap.newKeySet();
+    private volatile CachedFloor cachedFloor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${application.stock.partitions.cron:0 30 2 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= monthsAhead; i++) {
+            ensureMonth(current.plusMonths(i));
+        }
+
+        int compacted = 0;
+        for (StockPartitionDTO.Partition partition : getPartitions()) {
+            if (partition.cold() && !partition.brinIndexed()) {
+                // Outside a transaction, so both statements can run CONCURRENTLY against live traffic
+                jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + partition.name() + "_created_at_brin " +
+                                     "ON " + partition.name() + " USING brin (created_at)");
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + partition.name() + "_created_at_idx");
+                compacted++;
+            }
+        }
+        log.info("Stock Partitions Maintained: Through={}, Compacted={}", current.plusMonths(monthsAhead), compacted);
+    }
+
+    // Called by writers that may land outside the pre-created window (historical imports)
+    public void ensureMonths(Collection<YearMonth> months) {
+        months.forEach(this::ensureMonth);
+    }
+
+    // Movements at or before this instant were detached; the ledger cannot be replayed across it.
+    // Cached for ledger-floor-cache; a detach on this instance replaces the cached value at once.
+    public Instant getLedgerFloor() {
+        CachedFloor cached = cachedFloor;
+        if (cached == null || cached.readAt().plus(ledgerFloorCache).isBefore(Instant.now())) {
+            cached = new CachedFloor(findLedgerFloor(), Instant.now());
+            cachedFloor = cached;
+        }
+        return cached.floor();
+    }
+
+    // Read from the archive records, for callers that must not act on a cached floor
+    public Instant findLedgerFloor() {
+        OffsetDateTime floor = jdbcTemplate.queryForObject("SELECT MAX(ledger_floor) FROM stock_movement_archives", OffsetDateTime.class);
+        return floor != null ? floor.toInstant() : null;
+    }
+
+    public List<StockPartitionDTO.Partition> getPartitions() {
+        YearMonth firstHotMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(hotMonths);
+        return jdbcTemplate.query(
+                "SELECT c.relname AS name, " +
+                "       GREATEST(c.reltuples, 0)::bigint AS estimated_rows, " +
+                "       pg_total_relation_size(c.oid) AS total_bytes, " +
+                "       to_regclass(c.relname || '_created_at_brin') IS NOT NULL AS brin_indexed " +
+                "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'stock_movements'::regclass " +
+                "ORDER BY c.relname",
+                (rs, rowNum) -> {
+                    String name = rs.getString("name");
+                    YearMonth month = parseMonth(name);
+                    return new StockPartitionDTO.Partition(
+                            name,
+                            startOf(month),
+                            startOf(month.plusMonths(1)),
+                            rs.getLong("estimated_rows"),
+                            rs.getLong("total_bytes"),
+                            month.isBefore(firstHotMonth),
+                            rs.getBoolean("brin_indexed")
+                    );
+                });
+    }
+
+    public List<StockPartitionDTO.Archive> getArchives() {
+        return jdbcTemplate.query(
+                "SELECT * FROM stock_movement_archives ORDER BY range_start",
+                (rs, rowNum) -> new StockPartitionDTO.Archive(
+                        rs.getString("partition_name"),
+                        rs.getObject("range_start", OffsetDateTime.class).toInstant(),
+                        rs.getObject("range_end", OffsetDateTime.class).toInstant(),
+                        rs.getLong("row_count"),
+                        rs.getString("archive_schema"),
+                        rs.getObject("ledger_floor", OffsetDateTime.class).toInstant(),
+                        rs.getObject("detached_at", OffsetDateTime.class).toInstant()
+                ));
+    }
+
+    public StockPartitionDTO.Archive detachPartition(String name, boolean archive) {
+        List<StockPartitionDTO.Partition> partitions = getPartitions();
+        StockPartitionDTO.Partition partition = partitions.stream()
+                .filter(p -> p.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Partition not found: " + name));
+
+        if (!partition.cold()) {
+            throw new BusinessException("Partition " + name + " is still within the last " + hotMonths + " months");
+        }
+        if (!partitions.get(0).name().equals(name)) {
+            throw new BusinessException("Partitions are detached oldest first; detach " + partitions.get(0).name() + " before " + name);
+        }
+        StockPartitionDTO.Archive result = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+            // Held until commit so snapshot retention cannot fold away the checkpoint chosen as the floor
+            jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock(?)", Integer.class, StockSnapshotService.CHECKPOINT_LOCK_KEY);
+            // Replays (as-of queries, the snapshot job) must be able to start at or after the detached range
+            Instant floor = stockSnapshotRepository.findEarliestSnapshotAtOrAfter(partition.rangeEnd());
+            if (floor == null) {
+                throw new BusinessException("No stock snapshot exists after " + partition.rangeEnd() + "; cannot detach " + name);
+            }
+
+            // Listeners (the valuation checkpoint) still see the partition; a failure rolls the detach back
+            eventPublisher.publishEvent(new LedgerDetachingEvent(name, floor, findLedgerFloor()));
+
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + name, Long.class);
+            jdbcTemplate.execute("ALTER TABLE stock_movements DETACH PARTITION " + name);
+            String schema = "public";
+            if (archive) {
+                jdbcTemplate.execute("ALTER TABLE " + name + " SET SCHEMA " + ARCHIVE_SCHEMA);
+                schema = ARCHIVE_SCHEMA;
+            }
+            jdbcTemplate.update(
+                    "INSERT INTO stock_movement_archives " +
+                    "(partition_name, range_start, range_end, row_count, archive_schema, ledger_floor) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)",
+                    name,
+                    partition.rangeStart().atOffset(ZoneOffset.UTC),
+                    partition.rangeEnd().atOffset(ZoneOffset.UTC),
+                    rows != null ? rows : 0L,
+                    schema,
+                    floor.atOffset(ZoneOffset.UTC));
+            return new StockPartitionDTO.Archive(name, partition.rangeStart(), partition.rangeEnd(),
+                    rows != null ? rows : 0L, schema, floor, Instant.now());
+        });
+
+        cachedFloor = new CachedFloor(result.ledgerFloor(), Instant.now());
+        knownMonths.remove(parseMonth(name));
+        log.info("Stock Partition Detached: Name={}, Rows={}, Schema={}, LedgerFloor={}",
+                 name, result.rowCount(), result.archiveSchema(), result.ledgerFloor());
+        return result;
+    }
+
+    private void ensureMonth(YearMonth month) {
+        if (knownMonths.contains(month)) {
+            return;
+        }
+        jdbcTemplate.queryForObject("SELECT ensure_stock_movements_partition(?)", String.class, month.atDay(1));
+        knownMonths.add(month);
+    }
+
+    private static YearMonth parseMonth(String name) {
+        Matcher matcher = PARTITION_NAME.matcher(name);
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Unexpected stock_movements partition: " + name);
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+
+    private static Instant startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private record CachedFloor(Instant floor, Instant readAt) {}
+}
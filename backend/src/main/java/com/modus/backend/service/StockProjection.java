@@ -0,0 +1,172 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.Product;
+import com.modus.backend.domain.event.StockBalancesChangedEvent;
+import com.modus.backend.domain.repository.ProductRepository;
+import com.modus.backend.dto.StockSummaryResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+// RAM copy of stock_balances for the read paths. Quantities are fixed-point longs (3 decimals, like the column).
+// The database stays authoritative for writes; this only applies committed deltas and is verified periodically.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockProjection {
+
+    private static final int SCALE = 3;
+    private static final String BALANCES_SQL = "SELECT product_id, warehouse_id, quantity FROM stock_balances";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UUID, ProductLabel> productLabels = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> productTotals = new ConcurrentHashMap<>();
+    private final AtomicInteger lastMismatches = new AtomicInteger();
+    private Map<BalanceKey, long[]> suspectedDrift = Map.of();
+    private BalanceTable table;
+    private Timer lagTimer;
+
+    // Loaded before the web server accepts requests, so no committed movement can slip past the initial load
+    @PostConstruct
+    void load() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_balances", Integer.class);
+        BalanceTable loaded = new BalanceTable(rows != null ? rows : 0);
+        jdbcTemplate.query(BALANCES_SQL, rs -> {
+            loaded.put(rs.getObject("product_id", UUID.class), rs.getObject("warehouse_id", UUID.class), toUnits(rs.getBigDecimal("quantity")));
+        });
+        loaded.forEach((productId, ignored, units) -> addToTotal(productId, units));
+        table = loaded;
+
+        lagTimer = Timer.builder("stock.projection.lag")
+                .description("Time from a stock change being recorded to it being visible in the projection")
+                .register(meterRegistry);
+        Gauge.builder("stock.projection.entries", loaded, BalanceTable::size).register(meterRegistry);
+        Gauge.builder("stock.projection.mismatches", lastMismatches, AtomicInteger::get).register(meterRegistry);
+        log.info("Stock Projection Loaded: Entries={}", loaded.size());
+    }
+
+    public BigDecimal getQuantity(UUID productId, UUID warehouseId) {
+        return fromUnits(table.get(productId, warehouseId));
+    }
+
+    public List<StockSummaryResponse> getWarehouseStock(UUID warehouseId) {
+        Map<UUID, Long> quantities = new LinkedHashMap<>();
+        table.forEachInWarehouse(warehouseId, (productId, ignored, units) -> quantities.put(productId, units));
+
+        Map<UUID, ProductLabel> labels = resolveLabels(quantities.keySet());
+        List<StockSummaryResponse> result = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, units) -> {
+            ProductLabel label = labels.get(productId);
+            result.add(new StockSummaryResponse(
+                    productId,
+                    label != null ? label.name() : null,
+                    label != null ? label.sku() : null,
+                    fromUnits(units)
+            ));
+        });
+        return result;
+    }
+
+    // Sum over all warehouses
+    public BigDecimal getProductQuantity(UUID productId) {
+        AtomicLong total = productTotals.get(productId);
+        return fromUnits(total != null ? total.get() : 0L);
+    }
+
+    void forEachProductTotal(BiConsumer<UUID, Long> consumer) {
+        productTotals.forEach((productId, total) -> consumer.accept(productId, total.get()));
+    }
+
+    public void evictProduct(UUID productId) {
+        productLabels.remove(productId);
+    }
+
+    // Runs before the other after-commit listeners of this event, which read the updated quantities
+    @TransactionalEventListener
+    @Order(0)
+    public void onBalancesChanged(StockBalancesChangedEvent event) {
+        for (StockBalancesChangedEvent.Delta delta : event.deltas()) {
+            long units = toUnits(delta.delta());
+            table.add(delta.productId(), delta.warehouseId(), units);
+            addToTotal(delta.productId(), units);
+        }
+        lagTimer.record(Duration.between(event.occurredAt(), Instant.now()));
+    }
+
+    // A key that disagrees with the database in the same way on two consecutive runs is real drift (for example
+    // writes from another instance) and is overwritten; one-off differences are in-flight commits and are left alone.
+    @Scheduled(fixedDelayString = "${application.stock.projection.verify-interval:PT5M}",
+               initialDelayString = "${application.stock.projection.verify-interval:PT5M}")
+    public void verify() {
+        Map<BalanceKey, long[]> mismatches = new HashMap<>();
+        jdbcTemplate.query(BALANCES_SQL, rs -> {
+            UUID productId = rs.getObject("product_id", UUID.class);
+            UUID warehouseId = rs.getObject("warehouse_id", UUID.class);
+            long expected = toUnits(rs.getBigDecimal("quantity"));
+            long actual = table.get(productId, warehouseId);
+            if (expected != actual) {
+                mismatches.put(new BalanceKey(productId, warehouseId), new long[]{expected, actual});
+            }
+        });
+
+        int repaired = 0;
+        for (Map.Entry<BalanceKey, long[]> entry : mismatches.entrySet()) {
+            long[] previous = suspectedDrift.get(entry.getKey());
+            if (previous != null && Arrays.equals(previous, entry.getValue())) {
+                table.put(entry.getKey().productId(), entry.getKey().warehouseId(), entry.getValue()[0]);
+                addToTotal(entry.getKey().productId(), entry.getValue()[0] - entry.getValue()[1]);
+                repaired++;
+            }
+        }
+        suspectedDrift = mismatches;
+        lastMismatches.set(mismatches.size());
+        if (!mismatches.isEmpty()) {
+            log.warn("Stock Projection Drift: Mismatches={}, Repaired={}", mismatches.size(), repaired);
+        }
+    }
+
+    private void addToTotal(UUID productId, long units) {
+        productTotals.computeIfAbsent(productId, id -> new AtomicLong()).addAndGet(units);
+    }
+
+    Map<UUID, ProductLabel> resolveLabels(Set<UUID> productIds) {
+        List<UUID> missing = productIds.stream().filter(id -> !productLabels.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            for (Product product : productRepository.findAllById(missing)) {
+                productLabels.put(product.getId(), new ProductLabel(product.getName(), product.getSku()));
+            }
+        }
+        return productLabels;
+    }
+
+    static long toUnits(BigDecimal quantity) {
+        return quantity.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    static BigDecimal fromUnits(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    record ProductLabel(String name, String sku) {}
+}
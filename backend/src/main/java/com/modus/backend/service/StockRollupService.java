@@ -0,0 +1,84 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.StockDailyRollup;
+import com.modus.backend.domain.repository.StockDailyRollupRepository;
+import com.modus.backend.dto.StockTrendPoint;
+import com.modus.backend.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class StockRollupService {
+
+    private static final long MAX_TREND_DAYS = 731;
+
+    private final StockDailyRollupRepository stockDailyRollupRepository;
+
+    // Called by the writers inside their transaction, after the balance row for the key has been locked
+    void record(BalanceKey key, LocalDate day, BigDecimal inQuantity, BigDecimal outQuantity) {
+        stockDailyRollupRepository.applyDay(key.productId(), key.warehouseId(), day, inQuantity, outQuantity);
+        BigDecimal net = inQuantity.subtract(outQuantity);
+        if (net.signum() != 0) {
+            stockDailyRollupRepository.shiftLaterDays(key.productId(), key.warehouseId(), day, net);
+        }
+    }
+
+    // One point per day in [from, to]; without a warehouse the warehouses are summed
+    @Transactional(readOnly = true)
+    public List<StockTrendPoint> getTrend(UUID productId, UUID warehouseId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BusinessException("'to' must not be before 'from'");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_TREND_DAYS) {
+            throw new BusinessException("Trend range cannot exceed " + MAX_TREND_DAYS + " days");
+        }
+
+        List<StockDailyRollup> before;
+        List<StockDailyRollup> rows;
+        if (warehouseId != null) {
+            before = stockDailyRollupRepository.findLatestBefore(productId, warehouseId, from).stream().toList();
+            rows = stockDailyRollupRepository.findRange(productId, warehouseId, from, to);
+        } else {
+            before = stockDailyRollupRepository.findLatestBefore(productId, from);
+            rows = stockDailyRollupRepository.findRange(productId, from, to);
+        }
+
+        Map<UUID, BigDecimal> carried = new HashMap<>();
+        before.forEach(r -> carried.put(r.getId().getWarehouseId(), r.getClosingQuantity()));
+        Map<LocalDate, List<StockDailyRollup>> rowsByDay = new HashMap<>();
+        for (StockDailyRollup row : rows) {
+            carried.putIfAbsent(row.getId().getWarehouseId(), BigDecimal.ZERO);
+            rowsByDay.computeIfAbsent(row.getId().getDay(), d -> new ArrayList<>()).add(row);
+        }
+
+        List<StockTrendPoint> points = new ArrayList<>(days);
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            BigDecimal opening = sum(carried);
+            BigDecimal in = BigDecimal.ZERO;
+            BigDecimal out = BigDecimal.ZERO;
+            for (StockDailyRollup row : rowsByDay.getOrDefault(day, List.of())) {
+                in = in.add(row.getInQuantity());
+                out = out.add(row.getOutQuantity());
+                carried.put(row.getId().getWarehouseId(), row.getClosingQuantity());
+            }
+            points.add(new StockTrendPoint(day, opening, in, out, sum(carried)));
+        }
+        return points;
+    }
+
+    private static BigDecimal sum(Map<UUID, BigDecimal> quantities) {
+        return quantities.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
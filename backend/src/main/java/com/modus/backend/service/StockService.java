@@ -4,22 +4,41 @@ import com.modus.backend.domain.entity.Product;
 import com.modus.backend.domain.entity.StockMovement;
 import com.modus.backend.domain.entity.StockMovementType;
 import com.modus.backend.domain.entity.Warehouse;
+import com.modus.backend.domain.event.StockBalancesChangedEvent;
+import com.modus.backend.domain.event.StockDocumentRecordedEvent;
+import com.modus.backend.domain.event.StockMovementRecordedEvent;
+import com.modus.backend.domain.event.StockTransferredEvent;
 import com.modus.backend.domain.repository.ProductRepository;
+import com.modus.backend.domain.repository.StockBalanceRepository;
 import com.modus.backend.domain.repository.StockMovementRepository;
+import com.modus.backend.domain.repository.StockMovementRepositoryCustom;
 import com.modus.backend.domain.repository.WarehouseRepository;
+import com.modus.backend.dto.CursorPage;
+import com.modus.backend.dto.StockMovementDocumentRequest;
 import com.modus.backend.dto.StockMovementRequest;
+import com.modus.backend.dto.StockMovementResponse;
 import com.modus.backend.dto.StockSummaryResponse;
 import com.modus.backend.dto.StockTransferRequest;
+import com.modus.backend.exception.BusinessException;
 import com.modus.backend.exception.InsufficientStockException;
 import com.modus.backend.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,19 +46,37 @@ import java.util.stream.Collectors;
 @Slf4j
 public class StockService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 500;
+
     private final StockMovementRepository stockMovementRepository;
+    private final StockBalanceRepository stockBalanceRepository;
     private final ProductRepository productRepository;
     private final WarehouseRepository warehouseRepository;
+    private final StockProjection stockProjection;
+    private final StockRollupService stockRollupService;
+    private final InventoryValuationService inventoryValuationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void recordMovement(StockMovementRequest request) {
         validateQuantity(request.quantity());
+        validateUnitCost(request.type(), request.unitCost(), "");
 
-        if (request.type() == StockMovementType.OUT) {
-            validateStockAvailability(request.productId(), request.warehouseId(), request.quantity());
-        }
-
-        createMovementEntity(request.productId(), request.warehouseId(), request.type(), request.quantity(), null, request.note());
+        StockMovement movement = createMovementEntity(request.productId(), request.warehouseId(), request.type(), request.quantity(),
+                request.unitCost(), null, request.note());
+        applyBalanceChanges(List.of(
+                BalanceChange.of(request.productId(), request.warehouseId(), request.type(), request.quantity())
+        ));
+        inventoryValuationService.apply(List.of(toValuationLine(movement)));
+        eventPublisher.publishEvent(new StockMovementRecordedEvent(
+                movement.getId(),
+                request.productId(),
+                movement.getProduct().getSku(),
+                movement.getWarehouse().getName(),
+                request.type(),
+                request.quantity(),
+                Instant.now()
+        ));
         log.info("Stock Movement Created: Type={}, Product={}, Warehouse={}, Qty={}", 
                  request.type(), request.productId(), request.warehouseId(), request.quantity());
     }
@@ -47,65 +84,119 @@ public class StockService {
     @Transactional
     public void transferStock(StockTransferRequest request) {
         validateQuantity(request.quantity());
+        // Both legs would net out on one balance row, recording movements that move nothing
+        if (Objects.equals(request.sourceWarehouseId(), request.targetWarehouseId())) {
+            throw new BusinessException("Source and target warehouse must differ");
+        }
 
-        // 1. Check source stock
-        validateStockAvailability(request.productId(), request.sourceWarehouseId(), request.quantity());
-
-        // 2. Generate a Transfer Group ID
+        // 1. Generate a Transfer Group ID
         UUID transferGroupId = UUID.randomUUID();
 
-        // 3. Create OUT movement
-        createMovementEntity(
+        // 2. Create OUT movement
+        StockMovement outMovement = createMovementEntity(
                 request.productId(),
                 request.sourceWarehouseId(),
                 StockMovementType.TRANSFER_OUT,
                 request.quantity(),
+                null,
                 transferGroupId,
                 "Transfer to " + request.targetWarehouseId() + ": " + request.note()
         );
 
-        // 4. Create IN movement
-        createMovementEntity(
+        // 3. Create IN movement
+        StockMovement inMovement = createMovementEntity(
                 request.productId(),
                 request.targetWarehouseId(),
                 StockMovementType.TRANSFER_IN,
                 request.quantity(),
+                null,
                 transferGroupId,
                 "Transfer from " + request.sourceWarehouseId() + ": " + request.note()
         );
+
+        // 4. Move the balances; the source decrement fails the whole transfer if stock is short
+        applyBalanceChanges(List.of(
+                BalanceChange.of(request.productId(), request.sourceWarehouseId(), StockMovementType.TRANSFER_OUT, request.quantity()),
+                BalanceChange.of(request.productId(), request.targetWarehouseId(), StockMovementType.TRANSFER_IN, request.quantity())
+        ));
+        // The target takes over the source's cost, so a transfer moves value without changing the total
+        inventoryValuationService.apply(List.of(toValuationLine(outMovement), toValuationLine(inMovement)));
+        eventPublisher.publishEvent(new StockTransferredEvent(
+                transferGroupId,
+                request.productId(),
+                outMovement.getProduct().getSku(),
+                outMovement.getWarehouse().getName(),
+                inMovement.getWarehouse().getName(),
+                request.quantity(),
+                Instant.now()
+        ));
         log.info("Transfer Executed: GroupId={}, Source={}, Target={}, Qty={}", 
                  transferGroupId, request.sourceWarehouseId(), request.targetWarehouseId(), request.quantity());
     }
 
-    public List<StockSummaryResponse> getStockOverview(UUID warehouseId) {
-        return stockMovementRepository.findStockByWarehouse(warehouseId).stream()
-                .map(s -> new StockSummaryResponse(
-                        s.getProductId(),
-                        s.getProductName(),
-                        s.getSku(),
-                        s.getQuantity()
-                ))
-                .collect(Collectors.toList());
-    }
+    @Transactional
+    public void recordMovements(StockMovementDocumentRequest request) {
+        List<StockMovementRequest> lines = request.movements();
+        for (int i = 0; i < lines.size(); i++) {
+            StockMovementRequest line = lines.get(i);
+            if (line.productId() == null || line.warehouseId() == null || line.type() == null) {
+                throw new BusinessException("Line " + (i + 1) + ": productId, warehouseId and type are required");
+            }
+            if (line.quantity() == null || line.quantity().compareTo(BigDecimal.ZERO) <= 0) {
+                throw new BusinessException("Line " + (i + 1) + ": Quantity must be positive");
+            }
+            validateUnitCost(line.type(), line.unitCost(), "Line " + (i + 1) + ": ");
+        }
+
+        // Set-based lookups instead of two findById calls per line
+        Map<UUID, Product> products = productRepository.findAllById(
+                        lines.stream().map(StockMovementRequest::productId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<UUID, Warehouse> warehouses = warehouseRepository.findAllById(
+                        lines.stream().map(StockMovementRequest::warehouseId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Warehouse::getId, Function.identity()));
 
+        List<StockMovement> movements = new ArrayList<>(lines.size());
+        List<BalanceChange> changes = new ArrayList<>(lines.size());
+        for (StockMovementRequest line : lines) {
+            Product product = products.get(line.productId());
+            if (product == null) {
+                throw new ResourceNotFoundException("Product not found: " + line.productId());
+            }
+            Warehouse warehouse = warehouses.get(line.warehouseId());
+            if (warehouse == null) {
+                throw new ResourceNotFoundException("Warehouse not found: " + line.warehouseId());
+            }
 
+            movements.add(StockMovement.builder()
+                    .product(product)
+                    .warehouse(warehouse)
+                    .type(line.type())
+                    .quantity(line.quantity())
+                    .unitCost(line.unitCost())
+                    .note(line.note() != null ? line.note() : request.note())
+                    .build());
+            changes.add(BalanceChange.of(line.productId(), line.warehouseId(), line.type(), line.quantity()));
+        }
 
-    public List<StockSummaryResponse> getGlobalStockOverview() {
-        return stockMovementRepository.findGlobalStockSummary().stream()
-                .map(s -> new StockSummaryResponse(
-                        s.getProductId(),
-                        s.getProductName(),
-                        s.getSku(),
-                        s.getQuantity()
-                ))
-                .collect(Collectors.toList());
+        // Ids are generated client-side (GenerationType.UUID), so these go out as JDBC batches
+        stockMovementRepository.saveAll(movements);
+        applyBalanceChanges(changes);
+        inventoryValuationService.apply(movements.stream().map(StockService::toValuationLine).toList());
+        eventPublisher.publishEvent(new StockDocumentRecordedEvent(movements.size(), request.note(), Instant.now()));
+        log.info("Stock Movement Document Recorded: Lines={}", movements.size());
+    }
+
+    public List<StockSummaryResponse> getStockOverview(UUID warehouseId) {
+        return stockProjection.getWarehouseStock(warehouseId);
     }
 
     public BigDecimal getCurrentStock(UUID productId, UUID warehouseId) {
-        return stockMovementRepository.findCurrentStock(productId, warehouseId);
+        return stockProjection.getQuantity(productId, warehouseId);
     }
 
-    private void createMovementEntity(UUID productId, UUID warehouseId, StockMovementType type, BigDecimal quantity, UUID transferGroupId, String note) {
+    private StockMovement createMovementEntity(UUID productId, UUID warehouseId, StockMovementType type, BigDecimal quantity,
+                                               BigDecimal unitCost, UUID transferGroupId, String note) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
         Warehouse warehouse = warehouseRepository.findById(warehouseId)
@@ -116,17 +207,59 @@ public class StockService {
                 .warehouse(warehouse)
                 .type(type)
                 .quantity(quantity)
+                .unitCost(unitCost)
                 .transferGroupId(transferGroupId)
                 .note(note)
                 .build();
 
-        stockMovementRepository.save(movement);
+        return stockMovementRepository.save(movement);
     }
 
-    private void validateStockAvailability(UUID productId, UUID warehouseId, BigDecimal requiredQuantity) {
-        BigDecimal currentStock = stockMovementRepository.findCurrentStock(productId, warehouseId);
-        if (currentStock.compareTo(requiredQuantity) < 0) {
-            throw new InsufficientStockException("Insufficient stock. Current: " + currentStock + ", Required: " + requiredQuantity);
+    // Outbound changes are a guarded UPDATE, so concurrent issues of one SKU serialize on its balance
+    // row only. Changes are netted per row and rows are touched in (product, warehouse) order so
+    // multi-row writers cannot deadlock. The day's rollup row is updated under the same ordering.
+    private void applyBalanceChanges(List<BalanceChange> changes) {
+        Map<BalanceKey, BalanceChange> netChanges = changes.stream()
+                .collect(Collectors.toMap(BalanceChange::key, Function.identity(), BalanceChange::merge, TreeMap::new));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        netChanges.forEach((key, change) -> {
+            BigDecimal delta = change.delta();
+            if (delta.signum() >= 0) {
+                stockBalanceRepository.applyDelta(key.productId(), key.warehouseId(), delta);
+            } else {
+                BigDecimal required = delta.negate();
+                if (stockBalanceRepository.tryDecrement(key.productId(), key.warehouseId(), required) == 0) {
+                    BigDecimal currentStock = stockBalanceRepository.findQuantity(key.productId(), key.warehouseId());
+                    throw new InsufficientStockException("Insufficient stock. Current: " + currentStock + ", Required: " + required);
+                }
+            }
+            stockRollupService.record(key, today, change.inQuantity(), change.outQuantity());
+        });
+
+        eventPublisher.publishEvent(new StockBalancesChangedEvent(
+                netChanges.values().stream()
+                        .map(c -> new StockBalancesChangedEvent.Delta(c.key().productId(), c.key().warehouseId(), c.delta()))
+                        .toList(),
+                Instant.now()
+        ));
+    }
+
+    private record BalanceChange(BalanceKey key, BigDecimal inQuantity, BigDecimal outQuantity) {
+
+        static BalanceChange of(UUID productId, UUID warehouseId, StockMovementType type, BigDecimal quantity) {
+            BalanceKey key = new BalanceKey(productId, warehouseId);
+            return type.isInbound()
+                    ? new BalanceChange(key, quantity, BigDecimal.ZERO)
+                    : new BalanceChange(key, BigDecimal.ZERO, quantity);
+        }
+
+        BigDecimal delta() {
+            return inQuantity.subtract(outQuantity);
+        }
+
+        BalanceChange merge(BalanceChange other) {
+            return new BalanceChange(key, inQuantity.add(other.inQuantity), outQuantity.add(other.outQuantity));
         }
     }
 
@@ -136,17 +269,56 @@ public class StockService {
         }
     }
 
-    public List<com.modus.backend.dto.StockMovementResponse> getHistory(UUID productId) {
-        return stockMovementRepository.findByProductIdOrderByCreatedAtDesc(productId).stream()
-                .map(m -> new com.modus.backend.dto.StockMovementResponse(
-                        m.getId(),
-                        m.getProduct().getName(),
-                        m.getWarehouse().getName(),
-                        m.getType(),
-                        m.getQuantity(),
-                        m.getNote(),
-                        m.getCreatedAt()
-                ))
-                .collect(Collectors.toList());
+    // Only receipts carry a cost; issues (and the transfer endpoint) are valued from the existing stock
+    private void validateUnitCost(StockMovementType type, BigDecimal unitCost, String prefix) {
+        if (unitCost == null) {
+            return;
+        }
+        if (!type.isInbound()) {
+            throw new BusinessException(prefix + "Unit cost can only be given for inbound movements");
+        }
+        if (unitCost.signum() < 0) {
+            throw new BusinessException(prefix + "Unit cost must not be negative");
+        }
+    }
+
+    private static InventoryValuationService.Line toValuationLine(StockMovement movement) {
+        return new InventoryValuationService.Line(
+                movement.getProduct().getId(),
+                movement.getWarehouse().getId(),
+                movement.getType(),
+                movement.getQuantity(),
+                movement.getUnitCost(),
+                movement.getTransferGroupId(),
+                movement.getCreatedAt() != null ? movement.getCreatedAt() : Instant.now()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<StockMovementResponse> getHistory(UUID productId, UUID warehouseId, List<StockMovementType> types,
+                                                       Instant from, Instant to, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_HISTORY_PAGE_SIZE);
+        Instant afterCreatedAt = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] values = CursorCodec.decode(cursor, 2);
+            try {
+                afterCreatedAt = Instant.parse(values[0]);
+                afterId = UUID.fromString(values[1]);
+            } catch (RuntimeException e) {
+                throw new BusinessException("Invalid cursor");
+            }
+        }
+
+        // One row past the page tells us whether there is a next page
+        List<StockMovementResponse> rows = stockMovementRepository.findHistory(new StockMovementRepositoryCustom.HistoryQuery(
+                productId, warehouseId, types, from, to, afterCreatedAt, afterId, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<StockMovementResponse> page = rows.subList(0, pageSize);
+        StockMovementResponse last = page.get(pageSize - 1);
+        return new CursorPage<>(List.copyOf(page), CursorCodec.encode(last.createdAt().toString(), last.id().toString()));
     }
 }
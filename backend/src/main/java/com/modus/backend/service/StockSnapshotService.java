@@ -0,0 +1,112 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.repository.StockSnapshotRepository;
+import com.modus.backend.dto.StockSummaryResponse;
+import com.modus.backend.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Hourly stock checkpoints for as-of queries. A checkpoint stores only the pairs whose quantity changed since the
+// previous one; a pair's quantity at a checkpoint is its newest row at or before it. Retention keeps the newest
+// checkpoints and the ledger-floor checkpoint, carrying every older row forward into the oldest one kept.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockSnapshotService {
+
+    // Serializes pruning with partition detach, which picks an existing checkpoint as the new ledger floor
+    static final long CHECKPOINT_LOCK_KEY = 0x736e617073686f74L; // "snapshot"
+
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final StockPartitionService stockPartitionService;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Movements younger than this may still belong to in-flight transactions, so checkpoints stay behind them
+    @Value("${application.stock.snapshot.settle-window:PT5M}")
+    private Duration settleWindow;
+
+    @Value("${application.stock.snapshot.retained-checkpoints:48}")
+    private int retainedCheckpoints;
+
+    @Scheduled(cron = "${application.stock.snapshot.cron:0 0 * * * *}")
+    @Transactional
+    public void takeSnapshot() {
+        Instant at = Instant.now().minus(settleWindow).truncatedTo(ChronoUnit.SECONDS);
+        Instant previousAt = stockSnapshotRepository.findLatestSnapshotAt(at);
+        if (at.equals(previousAt)) {
+            return;
+        }
+
+        int rows = stockSnapshotRepository.takeSnapshot(previousAt != null ? previousAt : Instant.EPOCH, at);
+        log.info("Stock Snapshot Taken: At={}, Previous={}, Rows={}", at, previousAt, rows);
+    }
+
+    @Scheduled(cron = "${application.stock.snapshot.retention-cron:0 15 3 * * *}")
+    @Transactional
+    public void pruneSnapshots() {
+        jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock(?)", Integer.class, CHECKPOINT_LOCK_KEY);
+        Instant ledgerFloor = stockPartitionService.findLedgerFloor();
+        List<Instant> newest = stockSnapshotRepository.findSnapshotTimes(PageRequest.of(Math.max(retainedCheckpoints, 1) - 1, 1));
+        Instant cutoff = newest.isEmpty() ? null : newest.get(0);
+
+        // The oldest checkpoint kept becomes the base every older row is folded into; the ledger cannot be replayed
+        // from before the floor, so the floor checkpoint is kept even when it is not among the newest
+        Instant base = ledgerFloor != null && (cutoff == null || ledgerFloor.isBefore(cutoff)) ? ledgerFloor : cutoff;
+        if (base == null) {
+            return;
+        }
+        int deleted = fold(Instant.EPOCH, base);
+        deleted += stockSnapshotRepository.deleteZeroRows(base);
+        if (cutoff != null && base.isBefore(cutoff)) {
+            deleted += fold(base, cutoff);
+        }
+        log.info("Stock Snapshots Pruned: Base={}, Cutoff={}, Deleted={}", base, cutoff, deleted);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StockSummaryResponse> getStockAsOf(UUID warehouseId, Instant at) {
+        Instant snapshotAt = findStartingPoint(at);
+        return stockSnapshotRepository.findStockAsOf(warehouseId, snapshotAt, at).stream()
+                .map(s -> new StockSummaryResponse(
+                        s.getProductId(),
+                        s.getProductName(),
+                        s.getSku(),
+                        s.getQuantity()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getQuantityAsOf(UUID productId, UUID warehouseId, Instant at) {
+        return stockSnapshotRepository.findQuantityAsOf(productId, warehouseId, findStartingPoint(at), at);
+    }
+
+    // Drops the checkpoints in (from, into) once their rows have been carried forward into `into`
+    private int fold(Instant from, Instant into) {
+        int carried = stockSnapshotRepository.carrySnapshotsForward(from, into);
+        return stockSnapshotRepository.deleteSnapshotsBetween(from, into) - carried;
+    }
+
+    private Instant findStartingPoint(Instant at) {
+        Instant ledgerFloor = stockPartitionService.getLedgerFloor();
+        if (ledgerFloor != null && at.isBefore(ledgerFloor)) {
+            throw new BusinessException("Stock history before " + ledgerFloor + " has been archived");
+        }
+        Instant snapshotAt = stockSnapshotRepository.findLatestSnapshotAt(at);
+        return snapshotAt != null ? snapshotAt : Instant.EPOCH;
+    }
+}
@@ -0,0 +1,199 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.event.StockBalancesChangedEvent;
+import com.modus.backend.dto.StockChangeResponse;
+import com.modus.backend.exception.BusinessException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Live stock changes over Server-Sent Events. Connections are async requests, so an idle subscriber holds no
+// thread; each write runs on a virtual thread of its own, so a client whose socket is full blocks only itself.
+// Each subscriber has at most one write in flight, and changes that arrive meanwhile are coalesced per product, so a
+// slow client receives fewer, larger updates instead of queueing without bound. A write stuck past send-timeout
+// drops the subscriber; the client reconnects and starts again from a snapshot.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockStreamService {
+
+    private final StockProjection stockProjection;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.stock.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${application.stock.stream.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${application.stock.stream.send-timeout:PT30S}")
+    private Duration sendTimeout;
+
+    private final Map<UUID, Set<Subscriber>> subscribersByWarehouse = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ExecutorService dispatcher;
+
+    @PostConstruct
+    void start() {
+        dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+        Gauge.builder("stock.stream.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        subscribersByWarehouse.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+        dispatcher.shutdownNow();
+    }
+
+    public SseEmitter subscribe(UUID warehouseId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException("Too many stock stream subscribers, try again later");
+        }
+
+        Subscriber subscriber = new Subscriber(warehouseId, new SseEmitter(timeout.toMillis()));
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+        subscribersByWarehouse.computeIfAbsent(warehouseId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        // Current balances first, so the client has a base to apply the deltas to
+        List<StockChangeResponse> snapshot = stockProjection.getWarehouseStock(warehouseId).stream()
+                .map(s -> new StockChangeResponse(s.productId(), BigDecimal.ZERO, s.quantity()))
+                .toList();
+        subscriber.send(SseEmitter.event().name("snapshot").data(snapshot));
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener
+    @Order(2)
+    public void onBalancesChanged(StockBalancesChangedEvent event) {
+        Set<Subscriber> touched = new HashSet<>();
+        for (StockBalancesChangedEvent.Delta delta : event.deltas()) {
+            Set<Subscriber> subscribers = subscribersByWarehouse.get(delta.warehouseId());
+            if (subscribers == null || subscribers.isEmpty()) {
+                continue;
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(delta.productId(), delta.delta());
+                touched.add(subscriber);
+            }
+        }
+        touched.forEach(Subscriber::schedule);
+    }
+
+    // Keeps proxies from closing idle streams and surfaces dead connections, including ones whose write has stalled
+    @Scheduled(fixedDelayString = "${application.stock.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribersByWarehouse.values().forEach(set -> set.forEach(s -> {
+            if (s.flushing.get() && now - s.flushStartedAt > sendTimeout.toNanos()) {
+                s.drop(new IOException("Send timed out after " + sendTimeout));
+                return;
+            }
+            s.heartbeatDue = true;
+            s.schedule();
+        }));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        Set<Subscriber> subscribers = subscribersByWarehouse.get(subscriber.warehouseId);
+        if (subscribers != null && subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private final class Subscriber {
+
+        private final UUID warehouseId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean flushing = new AtomicBoolean();
+        private Map<UUID, BigDecimal> pending = new HashMap<>();
+        private volatile boolean heartbeatDue;
+        private volatile long flushStartedAt;
+
+        private Subscriber(UUID warehouseId, SseEmitter emitter) {
+            this.warehouseId = warehouseId;
+            this.emitter = emitter;
+        }
+
+        synchronized void offer(UUID productId, BigDecimal delta) {
+            pending.merge(productId, delta, BigDecimal::add);
+        }
+
+        void schedule() {
+            if (flushing.compareAndSet(false, true)) {
+                flushStartedAt = System.nanoTime();
+                dispatcher.execute(this::flush);
+            }
+        }
+
+        private void flush() {
+            try {
+                Map<UUID, BigDecimal> changes = drain();
+                if (!changes.isEmpty()) {
+                    // Quantities are read at send time, so concurrent commits cannot leave a stale value as the last one sent
+                    List<StockChangeResponse> data = new ArrayList<>(changes.size());
+                    changes.forEach((productId, delta) -> data.add(new StockChangeResponse(
+                            productId, delta, stockProjection.getQuantity(productId, warehouseId))));
+                    send(SseEmitter.event().name("stock").data(data));
+                } else if (heartbeatDue) {
+                    send(SseEmitter.event().comment("heartbeat"));
+                }
+                heartbeatDue = false;
+            } finally {
+                flushing.set(false);
+            }
+            // Changes offered while this write was in progress
+            if (hasPending()) {
+                schedule();
+            }
+        }
+
+        private synchronized Map<UUID, BigDecimal> drain() {
+            if (pending.isEmpty()) {
+                return Map.of();
+            }
+            Map<UUID, BigDecimal> drained = pending;
+            pending = new HashMap<>();
+            return drained;
+        }
+
+        private synchronized boolean hasPending() {
+            return !pending.isEmpty();
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+            }
+        }
+
+        void drop(Exception reason) {
+            log.debug("Stock Stream Closed: Warehouse={}, Reason={}", warehouseId, reason.getMessage());
+            unsubscribe(this);
+            emitter.completeWithError(reason);
+        }
+    }
+}
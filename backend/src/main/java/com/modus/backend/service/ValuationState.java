@@ -0,0 +1,178 @@
+package com.modus.backend.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+// Cost state of one (product, warehouse): the weighted average value and the open FIFO layers.
+// Both the per-movement updates and the audit replay go through these rules, so they agree by construction.
+// Stock received before costs were recorded has no layer; it is the oldest stock and is issued first, at zero cost.
+final class ValuationState {
+
+    static final int VALUE_SCALE = 4;
+
+    private BigDecimal quantity;
+    private BigDecimal averageValue;
+    private final List<CostLayer> layers;
+    private final List<CostLayer> removedLayers = new ArrayList<>();
+
+    ValuationState(BigDecimal quantity, BigDecimal averageValue, List<CostLayer> layers) {
+        this.quantity = quantity;
+        this.averageValue = averageValue;
+        this.layers = new ArrayList<>(layers);
+    }
+
+    static ValuationState empty() {
+        return new ValuationState(BigDecimal.ZERO, BigDecimal.ZERO, List.of());
+    }
+
+    BigDecimal quantity() {
+        return quantity;
+    }
+
+    BigDecimal averageValue() {
+        return averageValue;
+    }
+
+    BigDecimal fifoValue() {
+        return layers.stream().map(CostLayer::value).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    BigDecimal averageCost() {
+        return quantity.signum() > 0 ? averageValue.divide(quantity, VALUE_SCALE, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+
+    List<CostLayer> layers() {
+        return layers;
+    }
+
+    List<CostLayer> removedLayers() {
+        return removedLayers;
+    }
+
+    // A receipt without a cost is valued at the current average, so it leaves the unit cost unchanged
+    void receive(BigDecimal receivedQuantity, BigDecimal unitCost, Instant receivedAt) {
+        BigDecimal cost = unitCost != null ? unitCost : averageCost();
+        quantity = quantity.add(receivedQuantity);
+        averageValue = averageValue.add(value(receivedQuantity, cost));
+        addLayer(new CostLayer(UUID.randomUUID(), receivedAt, receivedQuantity, cost, true));
+    }
+
+    Issue issue(BigDecimal issuedQuantity) {
+        // Proportional share of the value; issuing everything takes the whole value so no rounding residue remains
+        BigDecimal averageShare = issuedQuantity.compareTo(quantity) >= 0 || quantity.signum() <= 0
+                ? averageValue
+                : averageValue.multiply(issuedQuantity).divide(quantity, VALUE_SCALE, RoundingMode.HALF_UP);
+
+        List<Slice> slices = new ArrayList<>();
+        BigDecimal remaining = issuedQuantity;
+        BigDecimal uncosted = quantity.subtract(layers.stream().map(CostLayer::getQuantity).reduce(BigDecimal.ZERO, BigDecimal::add));
+        if (uncosted.signum() > 0) {
+            BigDecimal taken = uncosted.min(remaining);
+            slices.add(new Slice(null, taken, BigDecimal.ZERO));
+            remaining = remaining.subtract(taken);
+        }
+        Iterator<CostLayer> iterator = layers.iterator();
+        while (remaining.signum() > 0 && iterator.hasNext()) {
+            CostLayer layer = iterator.next();
+            BigDecimal taken = layer.getQuantity().min(remaining);
+            slices.add(new Slice(layer.getReceivedAt(), taken, layer.getUnitCost()));
+            remaining = remaining.subtract(taken);
+            layer.setQuantity(layer.getQuantity().subtract(taken));
+            if (layer.getQuantity().signum() == 0) {
+                iterator.remove();
+                if (!layer.isFresh()) {
+                    removedLayers.add(layer);
+                }
+            }
+        }
+
+        quantity = quantity.subtract(issuedQuantity);
+        averageValue = averageValue.subtract(averageShare);
+        return new Issue(averageShare, slices);
+    }
+
+    // The receiving side takes over the issued value under both methods; layers keep their original receipt time
+    void receiveTransfer(BigDecimal receivedQuantity, Issue issue) {
+        quantity = quantity.add(receivedQuantity);
+        averageValue = averageValue.add(issue.averageValue());
+        for (Slice slice : issue.slices()) {
+            if (slice.receivedAt() != null) {
+                addLayer(new CostLayer(UUID.randomUUID(), slice.receivedAt(), slice.quantity(), slice.unitCost(), true));
+            }
+        }
+    }
+
+    private void addLayer(CostLayer layer) {
+        int index = layers.size();
+        while (index > 0 && layers.get(index - 1).getReceivedAt().isAfter(layer.getReceivedAt())) {
+            index--;
+        }
+        layers.add(index, layer);
+    }
+
+    static BigDecimal value(BigDecimal quantity, BigDecimal unitCost) {
+        return quantity.multiply(unitCost).setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    static final class CostLayer {
+
+        private final UUID id;
+        private final Instant receivedAt;
+        private final BigDecimal unitCost;
+        private final boolean fresh;
+        private BigDecimal quantity;
+        private boolean changed;
+
+        CostLayer(UUID id, Instant receivedAt, BigDecimal quantity, BigDecimal unitCost, boolean fresh) {
+            this.id = id;
+            this.receivedAt = receivedAt;
+            this.quantity = quantity;
+            this.unitCost = unitCost;
+            this.fresh = fresh;
+        }
+
+        UUID getId() {
+            return id;
+        }
+
+        Instant getReceivedAt() {
+            return receivedAt;
+        }
+
+        BigDecimal getUnitCost() {
+            return unitCost;
+        }
+
+        BigDecimal getQuantity() {
+            return quantity;
+        }
+
+        // Not yet stored
+        boolean isFresh() {
+            return fresh;
+        }
+
+        boolean isChanged() {
+            return changed;
+        }
+
+        BigDecimal value() {
+            return ValuationState.value(quantity, unitCost);
+        }
+
+        private void setQuantity(BigDecimal quantity) {
+            this.quantity = quantity;
+            this.changed = true;
+        }
+    }
+
+    // What left a warehouse: the average value share and the FIFO slices (receivedAt null for uncosted stock)
+    record Issue(BigDecimal averageValue, List<Slice> slices) {}
+
+    record Slice(Instant receivedAt, BigDecimal quantity, BigDecimal unitCost) {}
+}
@@ -2,20 +2,30 @@ package com.modus.backend.service;
 
 import com.modus.backend.domain.entity.Warehouse;
 import com.modus.backend.domain.repository.WarehouseRepository;
+import com.modus.backend.dto.CursorPage;
 import com.modus.backend.dto.WarehouseRequest;
 import com.modus.backend.dto.WarehouseResponse;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class WarehouseService {
 
+    private static final Map<String, SortField<Warehouse>> SORT_FIELDS = Map.of(
+            "name", SortField.ofString("name", Warehouse::getName),
+            "createdAt", SortField.ofInstant("createdAt", Warehouse::getCreatedAt)
+    );
+
     private final WarehouseRepository warehouseRepository;
+    private final KeysetPager keysetPager;
 
     public WarehouseResponse createWarehouse(WarehouseRequest request) {
         Warehouse warehouse = Warehouse.builder()
@@ -27,10 +37,21 @@ public class WarehouseService {
         return mapToResponse(warehouseRepository.save(warehouse));
     }
 
-    public List<WarehouseResponse> getAllWarehouses() {
-        return warehouseRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<WarehouseResponse> getWarehouses(String q, Boolean active, String sort, String cursor, int limit) {
+        Specification<Warehouse> filter = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (q != null && !q.isBlank()) {
+                String pattern = "%" + q.trim().toLowerCase(Locale.ROOT) + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("name")), pattern),
+                        cb.like(cb.lower(root.get("location")), pattern)));
+            }
+            if (active != null) {
+                predicates.add(cb.equal(root.get("active"), active));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+        return keysetPager.page(Warehouse.class, filter, SORT_FIELDS, Warehouse::getId, sort, cursor, limit, this::mapToResponse);
     }
 
     private WarehouseResponse mapToResponse(Warehouse warehouse) {
@@ -0,0 +1,83 @@
+-- Monthly range partitions of the movement ledger (UTC months). Partitioned tables need the partition key in
+-- the primary key; ids stay UUIDs generated by the application, so (id, created_at) is unique in practice too.
+
+-- 1. Move the existing table aside
+ALTER TABLE stock_movements RENAME TO stock_movements_legacy;
+ALTER TABLE stock_movements_legacy RENAME CONSTRAINT stock_movements_pkey TO stock_movements_legacy_pkey;
+DROP INDEX idx_stock_movements_aggregation;
+DROP INDEX idx_stock_movements_transfer;
+DROP INDEX idx_stock_movements_created_at;
+DROP INDEX idx_stock_movements_product_history;
+
+-- 2. Partitioned ledger
+CREATE TABLE stock_movements (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE RESTRICT,
+    warehouse_id UUID NOT NULL REFERENCES warehouses(id) ON DELETE RESTRICT,
+    type VARCHAR(20) NOT NULL CHECK (type IN ('IN', 'OUT', 'TRANSFER_IN', 'TRANSFER_OUT')),
+    quantity NUMERIC(12,3) NOT NULL CHECK (quantity > 0),
+    transfer_group_id UUID,
+    note TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_stock_movements_aggregation ON stock_movements(product_id, warehouse_id, created_at);
+CREATE INDEX idx_stock_movements_transfer ON stock_movements(transfer_group_id);
+CREATE INDEX idx_stock_movements_product_history ON stock_movements(product_id, created_at DESC, id DESC);
+
+-- 3. Partition factory, shared with the application's maintenance job. Each partition gets its own created_at
+-- B-tree, which is swapped for a BRIN index once the month turns cold.
+CREATE FUNCTION ensure_stock_movements_partition(p_month DATE) RETURNS TEXT
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::date;
+    v_name TEXT := 'stock_movements_' || to_char(v_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(v_name) IS NULL THEN
+        PERFORM pg_advisory_xact_lock(hashtext('stock_movements_partitions'));
+        IF to_regclass(v_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF stock_movements FOR VALUES FROM (%L) TO (%L)',
+                           v_name,
+                           v_start::timestamp AT TIME ZONE 'UTC',
+                           (v_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+            EXECUTE format('CREATE INDEX %I ON %I (created_at)', v_name || '_created_at_idx', v_name);
+        END IF;
+    END IF;
+    RETURN v_name;
+END $$;
+
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    FOR v_month IN
+        SELECT generate_series(
+                   date_trunc('month', COALESCE((SELECT MIN(created_at) FROM stock_movements_legacy), now()) AT TIME ZONE 'UTC'),
+                   date_trunc('month', GREATEST((SELECT MAX(created_at) FROM stock_movements_legacy), now()) AT TIME ZONE 'UTC') + INTERVAL '3 months',
+                   INTERVAL '1 month')::date
+    LOOP
+        PERFORM ensure_stock_movements_partition(v_month);
+    END LOOP;
+END $$;
+
+-- 4. Copy the ledger over
+INSERT INTO stock_movements (id, product_id, warehouse_id, type, quantity, transfer_group_id, note, created_at)
+SELECT id, product_id, warehouse_id, type, quantity, transfer_group_id, note, created_at
+FROM stock_movements_legacy;
+
+DROP TABLE stock_movements_legacy;
+
+-- 5. Detached partitions. ledger_floor is the snapshot the ledger is complete from after the detach;
+-- history before it is only available from the archive.
+CREATE SCHEMA IF NOT EXISTS stock_archive;
+
+CREATE TABLE stock_movement_archives (
+    partition_name VARCHAR(63) PRIMARY KEY,
+    range_start TIMESTAMPTZ NOT NULL,
+    range_end TIMESTAMPTZ NOT NULL,
+    row_count BIGINT NOT NULL,
+    archive_schema VARCHAR(63) NOT NULL,
+    ledger_floor TIMESTAMPTZ NOT NULL,
+    detached_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
@@ -0,0 +1,10 @@
+-- A row without a warehouse is the product-wide reorder point, compared against the total over all warehouses
+CREATE TABLE reorder_points (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    warehouse_id UUID REFERENCES warehouses(id) ON DELETE CASCADE,
+    threshold NUMERIC(15,3) NOT NULL CHECK (threshold >= 0),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT uk_reorder_points_scope UNIQUE NULLS NOT DISTINCT (product_id, warehouse_id)
+);
@@ -0,0 +1,9 @@
+CREATE TABLE activities (
+    id UUID PRIMARY KEY,
+    type VARCHAR(40) NOT NULL,
+    description TEXT NOT NULL,
+    reference_id UUID,
+    occurred_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_activities_occurred_at ON activities(occurred_at DESC);
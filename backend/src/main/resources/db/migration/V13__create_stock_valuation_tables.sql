@@ -0,0 +1,34 @@
+-- Cost per unit of an inbound movement; NULL means "at the current average cost" (also for all existing rows)
+ALTER TABLE stock_movements ADD COLUMN unit_cost NUMERIC(15,4) CHECK (unit_cost >= 0);
+
+-- Running valuation per balance row, under both methods. average_value is the weighted average
+-- inventory value; fifo_value is the sum of the open cost layers below.
+CREATE TABLE stock_valuations (
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE RESTRICT,
+    warehouse_id UUID NOT NULL REFERENCES warehouses(id) ON DELETE RESTRICT,
+    quantity NUMERIC(15,3) NOT NULL DEFAULT 0,
+    average_value NUMERIC(19,4) NOT NULL DEFAULT 0,
+    fifo_value NUMERIC(19,4) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (product_id, warehouse_id)
+);
+
+CREATE INDEX idx_stock_valuations_warehouse ON stock_valuations(warehouse_id);
+
+-- Open FIFO layers; a layer is deleted once fully issued
+CREATE TABLE stock_cost_layers (
+    id UUID PRIMARY KEY,
+    product_id UUID NOT NULL,
+    warehouse_id UUID NOT NULL,
+    received_at TIMESTAMPTZ NOT NULL,
+    quantity NUMERIC(15,3) NOT NULL CHECK (quantity > 0),
+    unit_cost NUMERIC(15,4) NOT NULL,
+    FOREIGN KEY (product_id, warehouse_id) REFERENCES stock_valuations(product_id, warehouse_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_stock_cost_layers_fifo ON stock_cost_layers(product_id, warehouse_id, received_at, id);
+
+-- Stock on hand so far carries no cost information
+INSERT INTO stock_valuations (product_id, warehouse_id, quantity)
+SELECT product_id, warehouse_id, quantity
+FROM stock_balances;
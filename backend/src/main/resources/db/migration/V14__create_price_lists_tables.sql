@@ -0,0 +1,30 @@
+-- A price list applies to one customer, to every customer of one type, or (neither set) to everyone.
+-- valid_from / valid_to are inclusive; NULL leaves that side open.
+CREATE TABLE price_lists (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name VARCHAR(255) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'USD',
+    customer_id UUID REFERENCES customers(id) ON DELETE CASCADE,
+    customer_type VARCHAR(50),
+    valid_from DATE,
+    valid_to DATE,
+    priority INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT ck_price_lists_scope CHECK (customer_id IS NULL OR customer_type IS NULL),
+    CONSTRAINT ck_price_lists_validity CHECK (valid_from IS NULL OR valid_to IS NULL OR valid_to >= valid_from)
+);
+
+CREATE INDEX idx_price_lists_customer ON price_lists(customer_id);
+
+-- Quantity breaks: the entry with the highest min_quantity not above the ordered quantity applies
+CREATE TABLE price_list_entries (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    price_list_id UUID NOT NULL REFERENCES price_lists(id) ON DELETE CASCADE,
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    min_quantity INTEGER NOT NULL DEFAULT 1 CHECK (min_quantity >= 1),
+    unit_price NUMERIC(12,2) NOT NULL CHECK (unit_price >= 0),
+    CONSTRAINT uk_price_list_entries_break UNIQUE (price_list_id, product_id, min_quantity)
+);
+
+CREATE INDEX idx_price_list_entries_product ON price_list_entries(product_id);
@@ -0,0 +1,23 @@
+-- Rate of one unit of currency in the base currency (application.fx.base-currency), effective from
+-- effective_date until the next row of the same currency
+CREATE TABLE fx_rates (
+    currency VARCHAR(3) NOT NULL,
+    effective_date DATE NOT NULL,
+    rate NUMERIC(18,8) NOT NULL CHECK (rate > 0),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (currency, effective_date)
+);
+
+-- Offer totals per currency and status, moved in the same transaction as every offer status change
+CREATE TABLE offer_totals (
+    currency VARCHAR(3) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    offer_count BIGINT NOT NULL DEFAULT 0,
+    total_amount NUMERIC(19,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (currency, status)
+);
+
+INSERT INTO offer_totals (currency, status, offer_count, total_amount)
+SELECT COALESCE(currency, 'USD'), status, count(*), COALESCE(sum(total_amount), 0)
+FROM offers
+GROUP BY COALESCE(currency, 'USD'), status;
@@ -0,0 +1,3 @@
+-- Optimistic locking for offers and demands; status transitions bump it in their guarded UPDATE
+ALTER TABLE offers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE demands ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
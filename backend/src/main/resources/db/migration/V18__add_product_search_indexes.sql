@@ -0,0 +1,19 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Full-text document: SKU ranks above name, name above description. The 'simple' configuration does no
+-- stemming, which suits SKUs and names in mixed languages.
+ALTER TABLE products ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(sku, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(name, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_products_search_vector ON products USING GIN (search_vector);
+
+-- Typo-tolerant matching (similarity and word_similarity operators)
+CREATE INDEX idx_products_name_trgm ON products USING GIN (lower(name) gin_trgm_ops);
+CREATE INDEX idx_products_sku_trgm ON products USING GIN (lower(sku) gin_trgm_ops);
+
+-- Autocomplete prefix ranges: byte order ("C") lets a range scan return matches already sorted and stop at the limit
+CREATE INDEX idx_products_name_prefix ON products ((lower(name) COLLATE "C"), id);
+CREATE INDEX idx_products_sku_prefix ON products ((lower(sku) COLLATE "C"), id);
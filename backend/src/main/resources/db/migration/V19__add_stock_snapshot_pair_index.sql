@@ -0,0 +1,3 @@
+-- Checkpoints only hold the pairs that changed since the previous one, so a pair's quantity at a checkpoint is its
+-- newest row at or before it. Existing dense checkpoints stay valid under that reading.
+CREATE INDEX idx_stock_snapshots_pair ON stock_snapshots(product_id, warehouse_id, snapshot_at DESC);
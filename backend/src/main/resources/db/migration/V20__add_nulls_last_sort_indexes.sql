@@ -0,0 +1,12 @@
+-- Nullable sort columns order their nulls last in both directions. The V8 indexes serve the ascending sorts, but
+-- scanned backwards they return nulls first, so descending sorts get their own indexes.
+
+CREATE INDEX idx_customers_created_at_desc_id ON customers(created_at DESC NULLS LAST, id DESC);
+
+CREATE INDEX idx_offers_created_at_desc_id ON offers(created_at DESC NULLS LAST, id DESC);
+CREATE INDEX idx_offers_total_amount_desc_id ON offers(total_amount DESC NULLS LAST, id DESC);
+CREATE INDEX idx_offers_status_created_at_desc_id ON offers(status, created_at DESC NULLS LAST, id DESC);
+CREATE INDEX idx_offers_customer_created_at_desc_id ON offers(customer_id, created_at DESC NULLS LAST, id DESC);
+
+CREATE INDEX idx_demands_created_at_desc_id ON demands(created_at DESC NULLS LAST, id DESC);
+CREATE INDEX idx_demands_status_created_at_desc_id ON demands(status, created_at DESC NULLS LAST, id DESC);
@@ -0,0 +1,3 @@
+-- Older activity pages seek on (occurred_at, id) so entries sharing a timestamp are neither skipped nor repeated
+CREATE INDEX idx_activities_occurred_at_id ON activities(occurred_at DESC, id DESC);
+DROP INDEX idx_activities_occurred_at;
@@ -0,0 +1,25 @@
+-- Valuation state as of the ledger floor, written while a partition is detached. The valuation audit replays the
+-- ledger from here, since the movements before the floor are no longer attached. Only the latest floor is kept.
+CREATE TABLE stock_valuation_checkpoints (
+    ledger_floor TIMESTAMPTZ NOT NULL,
+    product_id UUID NOT NULL,
+    warehouse_id UUID NOT NULL,
+    quantity NUMERIC(15,3) NOT NULL,
+    average_value NUMERIC(19,4) NOT NULL,
+    PRIMARY KEY (ledger_floor, product_id, warehouse_id)
+);
+
+-- Open FIFO layers at the floor
+CREATE TABLE stock_valuation_checkpoint_layers (
+    ledger_floor TIMESTAMPTZ NOT NULL,
+    product_id UUID NOT NULL,
+    warehouse_id UUID NOT NULL,
+    received_at TIMESTAMPTZ NOT NULL,
+    quantity NUMERIC(15,3) NOT NULL CHECK (quantity > 0),
+    unit_cost NUMERIC(15,4) NOT NULL,
+    FOREIGN KEY (ledger_floor, product_id, warehouse_id)
+        REFERENCES stock_valuation_checkpoints(ledger_floor, product_id, warehouse_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_stock_valuation_checkpoint_layers_key
+    ON stock_valuation_checkpoint_layers(ledger_floor, product_id, warehouse_id, received_at);
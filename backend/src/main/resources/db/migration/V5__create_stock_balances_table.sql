@@ -0,0 +1,18 @@
+CREATE TABLE stock_balances (
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE RESTRICT,
+    warehouse_id UUID NOT NULL REFERENCES warehouses(id) ON DELETE RESTRICT,
+    quantity NUMERIC(15,3) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (product_id, warehouse_id)
+);
+
+CREATE INDEX idx_stock_balances_warehouse ON stock_balances(warehouse_id);
+
+-- Backfill from the existing ledger
+INSERT INTO stock_balances (product_id, warehouse_id, quantity, updated_at)
+SELECT product_id,
+       warehouse_id,
+       SUM(CASE WHEN type IN ('IN', 'TRANSFER_IN') THEN quantity ELSE -quantity END),
+       now()
+FROM stock_movements
+GROUP BY product_id, warehouse_id;
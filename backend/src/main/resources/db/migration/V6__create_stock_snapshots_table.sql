@@ -0,0 +1,11 @@
+CREATE TABLE stock_snapshots (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    snapshot_at TIMESTAMPTZ NOT NULL,
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE RESTRICT,
+    warehouse_id UUID NOT NULL REFERENCES warehouses(id) ON DELETE RESTRICT,
+    quantity NUMERIC(15,3) NOT NULL,
+    CONSTRAINT uk_stock_snapshots_key UNIQUE (snapshot_at, product_id, warehouse_id)
+);
+
+-- Lets the snapshot job read only the ledger window since the previous checkpoint
+CREATE INDEX idx_stock_movements_created_at ON stock_movements(created_at);
@@ -0,0 +1,2 @@
+-- Keyset pagination of a product's history across all warehouses
+CREATE INDEX idx_stock_movements_product_history ON stock_movements(product_id, created_at DESC, id DESC);
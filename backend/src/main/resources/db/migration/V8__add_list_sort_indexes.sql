@@ -0,0 +1,20 @@
+-- Keyset pagination indexes: one per supported sort order, with id as the tie-breaker.
+-- B-tree indexes are scanned backwards for descending sorts.
+
+CREATE INDEX idx_products_name_id ON products(name, id);
+CREATE INDEX idx_products_created_at_id ON products(created_at, id);
+
+CREATE INDEX idx_customers_name_id ON customers(name, id);
+CREATE INDEX idx_customers_created_at_id ON customers(created_at, id);
+
+CREATE INDEX idx_warehouses_name_id ON warehouses(name, id);
+CREATE INDEX idx_warehouses_created_at_id ON warehouses(created_at, id);
+
+CREATE INDEX idx_offers_created_at_id ON offers(created_at, id);
+CREATE INDEX idx_offers_total_amount_id ON offers(total_amount, id);
+CREATE INDEX idx_offers_status_created_at_id ON offers(status, created_at, id);
+CREATE INDEX idx_offers_customer_created_at_id ON offers(customer_id, created_at, id);
+
+CREATE INDEX idx_demands_created_at_id ON demands(created_at, id);
+CREATE INDEX idx_demands_title_id ON demands(title, id);
+CREATE INDEX idx_demands_status_created_at_id ON demands(status, created_at, id);
@@ -0,0 +1,37 @@
+CREATE TABLE stock_daily_rollups (
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE RESTRICT,
+    warehouse_id UUID NOT NULL REFERENCES warehouses(id) ON DELETE RESTRICT,
+    day DATE NOT NULL,
+    opening_quantity NUMERIC(15,3) NOT NULL,
+    in_quantity NUMERIC(15,3) NOT NULL DEFAULT 0,
+    out_quantity NUMERIC(15,3) NOT NULL DEFAULT 0,
+    closing_quantity NUMERIC(15,3) NOT NULL,
+    PRIMARY KEY (product_id, warehouse_id, day)
+);
+
+-- Days are UTC calendar days; rows exist only for days with movements
+INSERT INTO stock_daily_rollups (product_id, warehouse_id, day, opening_quantity, in_quantity, out_quantity, closing_quantity)
+SELECT product_id,
+       warehouse_id,
+       day,
+       closing_quantity - in_quantity + out_quantity,
+       in_quantity,
+       out_quantity,
+       closing_quantity
+FROM (
+    SELECT product_id,
+           warehouse_id,
+           day,
+           in_quantity,
+           out_quantity,
+           SUM(in_quantity - out_quantity) OVER (PARTITION BY product_id, warehouse_id ORDER BY day) AS closing_quantity
+    FROM (
+        SELECT product_id,
+               warehouse_id,
+               (created_at AT TIME ZONE 'UTC')::date AS day,
+               SUM(CASE WHEN type IN ('IN', 'TRANSFER_IN') THEN quantity ELSE 0 END) AS in_quantity,
+               SUM(CASE WHEN type IN ('OUT', 'TRANSFER_OUT') THEN quantity ELSE 0 END) AS out_quantity
+        FROM stock_movements
+        GROUP BY product_id, warehouse_id, (created_at AT TIME ZONE 'UTC')::date
+    ) daily
+) running;
@@ -2,8 +2,10 @@ package com.modus.backend;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 
-@SpringBootTest
+@SpringBootTest(properties = "application.scheduling.enabled=false")
+@Import(TestcontainersConfiguration.class)
 class BackendApplicationTests {
 
 	@Test
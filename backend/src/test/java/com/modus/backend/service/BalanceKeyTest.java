@@ -0,0 +1,41 @@
+package com.modus.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceKeyTest {
+
+    private static final UUID PRODUCT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    // PostgreSQL compares uuids byte by byte, unsigned; UUID.compareTo would put the 0x8... id first
+    @Test
+    void ordersWarehousesAsPostgresDoes() {
+        BalanceKey low = new BalanceKey(PRODUCT, UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff"));
+        BalanceKey high = new BalanceKey(PRODUCT, UUID.fromString("80000000-0000-0000-0000-000000000000"));
+
+        assertThat(low).isLessThan(high);
+        assertThat(high).isGreaterThan(low);
+    }
+
+    @Test
+    void comparesLeastSignificantHalfUnsigned() {
+        BalanceKey low = new BalanceKey(PRODUCT, UUID.fromString("00000000-0000-0000-7fff-ffffffffffff"));
+        BalanceKey high = new BalanceKey(PRODUCT, UUID.fromString("00000000-0000-0000-8000-000000000000"));
+
+        assertThat(low).isLessThan(high);
+    }
+
+    @Test
+    void ordersByProductFirst() {
+        BalanceKey first = new BalanceKey(UUID.fromString("10000000-0000-0000-0000-000000000000"),
+                UUID.fromString("f0000000-0000-0000-0000-000000000000"));
+        BalanceKey second = new BalanceKey(UUID.fromString("f0000000-0000-0000-0000-000000000000"),
+                UUID.fromString("10000000-0000-0000-0000-000000000000"));
+
+        assertThat(first).isLessThan(second);
+        assertThat(first.compareTo(new BalanceKey(first.productId(), first.warehouseId()))).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package com.modus.backend.service;
+
+import com.modus.backend.domain.entity.StockMovementType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventoryValuationReplayTest {
+
+    private static final UUID PRODUCT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID WAREHOUSE_A = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID WAREHOUSE_B = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private static final Instant T1 = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant T2 = Instant.parse("2024-01-02T00:00:00Z");
+
+    @Test
+    void groupedTransferMovesTheIssuedValue() {
+        InventoryValuationService.Replay replay = new InventoryValuationService.Replay(key -> ValuationState.empty());
+        UUID group = UUID.randomUUID();
+
+        replay.apply(line(WAREHOUSE_A, StockMovementType.IN, "10", "2", null, T1));
+        replay.apply(line(WAREHOUSE_A, StockMovementType.IN, "10", "4", null, T1));
+        replay.apply(line(WAREHOUSE_A, StockMovementType.TRANSFER_OUT, "15", null, group, T2));
+        replay.apply(line(WAREHOUSE_B, StockMovementType.TRANSFER_IN, "15", null, group, T2));
+
+        ValuationState source = replay.states().get(new BalanceKey(PRODUCT, WAREHOUSE_A));
+        ValuationState target = replay.states().get(new BalanceKey(PRODUCT, WAREHOUSE_B));
+        assertThat(source.quantity()).isEqualByComparingTo("5");
+        assertThat(source.fifoValue()).isEqualByComparingTo("20");
+        assertThat(target.quantity()).isEqualByComparingTo("15");
+        assertThat(target.averageValue()).isEqualByComparingTo("45");
+        assertThat(target.fifoValue()).isEqualByComparingTo("40");
+        assertThat(source.averageValue().add(target.averageValue())).isEqualByComparingTo("60");
+    }
+
+    @Test
+    void ungroupedTransferInIsValuedLikeAReceipt() {
+        InventoryValuationService.Replay replay = new InventoryValuationService.Replay(key -> ValuationState.empty());
+
+        replay.apply(line(WAREHOUSE_B, StockMovementType.TRANSFER_IN, "4", "3", null, T1));
+
+        ValuationState target = replay.states().get(new BalanceKey(PRODUCT, WAREHOUSE_B));
+        assertThat(target.averageValue()).isEqualByComparingTo("12");
+        assertThat(target.layers()).hasSize(1);
+    }
+
+    @Test
+    void outboundMovementReducesQuantityAndValue() {
+        InventoryValuationService.Replay replay = new InventoryValuationService.Replay(key -> ValuationState.empty());
+
+        replay.apply(line(WAREHOUSE_A, StockMovementType.IN, "8", "5", null, T1));
+        replay.apply(line(WAREHOUSE_A, StockMovementType.OUT, "2", null, null, T2));
+
+        ValuationState state = replay.states().get(new BalanceKey(PRODUCT, WAREHOUSE_A));
+        assertThat(state.quantity()).isEqualByComparingTo("6");
+        assertThat(state.averageValue()).isEqualByComparingTo("30");
+        assertThat(state.fifoValue()).isEqualByComparingTo("30");
+    }
+
+    @Test
+    void eachKeyIsLoadedOnceAndContinuesFromTheLoadedState() {
+        List<BalanceKey> loaded = new ArrayList<>();
+        InventoryValuationService.Replay replay = new InventoryValuationService.Replay(key -> {
+            loaded.add(key);
+            return new ValuationState(new BigDecimal("10"), new BigDecimal("20"), List.of());
+        });
+
+        replay.apply(line(WAREHOUSE_A, StockMovementType.IN, "10", "4", null, T1));
+        replay.apply(line(WAREHOUSE_A, StockMovementType.OUT, "5", null, null, T2));
+
+        ValuationState state = replay.states().get(new BalanceKey(PRODUCT, WAREHOUSE_A));
+        assertThat(loaded).containsExactly(new BalanceKey(PRODUCT, WAREHOUSE_A));
+        assertThat(state.quantity()).isEqualByComparingTo("15");
+        assertThat(state.averageValue()).isEqualByComparingTo("45");
+    }
+
+    @Test
+    void statesAreKeptInLockOrder() {
+        InventoryValuationService.Replay replay = new InventoryValuationService.Replay(key -> ValuationState.empty());
+
+        replay.apply(line(WAREHOUSE_B, StockMovementType.IN, "1", "1", null, T1));
+        replay.apply(line(WAREHOUSE_A, StockMovementType.IN, "1", "1", null, T1));
+
+        assertThat(replay.states().keySet())
+                .containsExactly(new BalanceKey(PRODUCT, WAREHOUSE_A), new BalanceKey(PRODUCT, WAREHOUSE_B));
+    }
+
+    private static InventoryValuationService.Line line(UUID warehouseId, StockMovementType type, String quantity, String unitCost,
+                                                       UUID transferGroupId, Instant occurredAt) {
+        return new InventoryValuationService.Line(PRODUCT, warehouseId, type, new BigDecimal(quantity),
+                unitCost != null ? new BigDecimal(unitCost) : null, transferGroupId, occurredAt);
+    }
+}
@@ -0,0 +1,116 @@
+package com.modus.backend.service;
+
+import com.modus.backend.TestcontainersConfiguration;
+import com.modus.backend.domain.entity.CustomerType;
+import com.modus.backend.domain.entity.Priority;
+import com.modus.backend.dto.CustomerRequest;
+import com.modus.backend.dto.DemandDTO;
+import com.modus.backend.dto.OfferDTO;
+import com.modus.backend.dto.ProductRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Statements per call of the summary and detail endpoints, with the second-level cache emptied so every entity
+// has to come from the database. The counts must not grow with the number of rows or items.
+@SpringBootTest(properties = "application.scheduling.enabled=false")
+@Import(TestcontainersConfiguration.class)
+class StatementCountTest {
+
+    private static final int ROWS = 5;
+    private static final int ITEMS = 3;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private DemandService demandService;
+
+    @Autowired
+    private OfferService offerService;
+
+    private final List<UUID> demandIds = new ArrayList<>();
+    private final List<UUID> offerIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        UUID customerId = customerService.createCustomer(
+                new CustomerRequest("Customer " + run, null, null, null, null, CustomerType.CUSTOMER)).id();
+        List<UUID> productIds = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            productIds.add(productService.createProduct(
+                    new ProductRequest("SC-" + run + "-" + i, "Product " + i, null, "pcs", new BigDecimal("10.00"))).id());
+        }
+        for (int i = 0; i < ROWS; i++) {
+            UUID demandId = demandService.createDemand(new DemandDTO.Request("Demand " + i, null, null, Priority.MEDIUM, null,
+                    productIds.stream().map(id -> new DemandDTO.ItemRequest(id, 2, null)).toList())).id();
+            UUID offerId = offerService.createOffer(new OfferDTO.CreateRequest(demandId, customerId, null, "USD",
+                    productIds.stream().map(id -> new OfferDTO.ItemRequest(id, 2, new BigDecimal("10.00"), null)).toList())).id();
+            demandIds.add(demandId);
+            offerIds.add(offerId);
+        }
+    }
+
+    @Test
+    void offerSummaryPageIsOneStatement() {
+        Statistics statistics = resetStatistics();
+
+        assertThat(offerService.getOfferSummaries(null, null, null, null, null, ROWS).items()).hasSize(ROWS);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void offerDetailIsOneStatement() {
+        Statistics statistics = resetStatistics();
+
+        assertThat(offerService.getOffer(offerIds.get(0)).items()).hasSize(ITEMS);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void demandSummaryPageIsOneStatement() {
+        Statistics statistics = resetStatistics();
+
+        assertThat(demandService.getDemandSummaries(null, null, null, null, ROWS).items()).hasSize(ROWS);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void demandDetailIsOneStatement() {
+        Statistics statistics = resetStatistics();
+
+        assertThat(demandService.getDemand(demandIds.get(0)).items()).hasSize(ITEMS);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics resetStatistics() {
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,130 @@
+package com.modus.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ValuationStateTest {
+
+    private static final Instant T1 = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant T2 = Instant.parse("2024-01-02T00:00:00Z");
+    private static final Instant T3 = Instant.parse("2024-01-03T00:00:00Z");
+
+    @Test
+    void receiptsAddQuantityValueAndLayers() {
+        ValuationState state = ValuationState.empty();
+
+        state.receive(dec("10"), dec("2"), T1);
+        state.receive(dec("10"), dec("4"), T2);
+
+        assertThat(state.quantity()).isEqualByComparingTo("20");
+        assertThat(state.averageValue()).isEqualByComparingTo("60");
+        assertThat(state.fifoValue()).isEqualByComparingTo("60");
+        assertThat(state.averageCost()).isEqualByComparingTo("3");
+        assertThat(state.layers()).extracting(ValuationState.CostLayer::getReceivedAt).containsExactly(T1, T2);
+    }
+
+    @Test
+    void receiptWithoutCostIsValuedAtTheCurrentAverage() {
+        ValuationState state = ValuationState.empty();
+        state.receive(dec("10"), dec("3"), T1);
+
+        state.receive(dec("5"), null, T2);
+
+        assertThat(state.averageValue()).isEqualByComparingTo("45");
+        assertThat(state.averageCost()).isEqualByComparingTo("3");
+        assertThat(state.layers().get(1).getUnitCost()).isEqualByComparingTo("3");
+    }
+
+    @Test
+    void issueTakesAProportionalAverageShareAndTheOldestLayersFirst() {
+        ValuationState state = ValuationState.empty();
+        state.receive(dec("10"), dec("2"), T1);
+        state.receive(dec("10"), dec("4"), T2);
+
+        ValuationState.Issue issue = state.issue(dec("15"));
+
+        assertThat(issue.averageValue()).isEqualByComparingTo("45");
+        assertThat(issue.slices()).extracting(ValuationState.Slice::receivedAt, ValuationState.Slice::quantity)
+                .containsExactly(tuple(T1, dec("10")), tuple(T2, dec("5")));
+        assertThat(state.quantity()).isEqualByComparingTo("5");
+        assertThat(state.averageValue()).isEqualByComparingTo("15");
+        assertThat(state.fifoValue()).isEqualByComparingTo("20");
+        assertThat(state.layers()).hasSize(1);
+    }
+
+    @Test
+    void issuingEverythingLeavesNoRoundingResidue() {
+        ValuationState state = ValuationState.empty();
+        state.receive(dec("3"), dec("1"), T1);
+        state.issue(dec("1"));
+
+        state.issue(dec("2"));
+
+        assertThat(state.quantity()).isEqualByComparingTo("0");
+        assertThat(state.averageValue()).isEqualByComparingTo("0");
+        assertThat(state.fifoValue()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void uncostedStockIsIssuedFirstAtZeroCost() {
+        ValuationState state = new ValuationState(dec("5"), BigDecimal.ZERO, List.of());
+        state.receive(dec("5"), dec("2"), T1);
+
+        ValuationState.Issue issue = state.issue(dec("7"));
+
+        assertThat(issue.slices()).extracting(ValuationState.Slice::receivedAt).containsExactly(null, T1);
+        assertThat(issue.slices().get(0).unitCost()).isEqualByComparingTo("0");
+        assertThat(state.fifoValue()).isEqualByComparingTo("6");
+    }
+
+    @Test
+    void onlyStoredLayersAreReportedAsRemoved() {
+        ValuationState.CostLayer stored = new ValuationState.CostLayer(UUID.randomUUID(), T1, dec("2"), dec("1"), false);
+        ValuationState state = new ValuationState(dec("2"), dec("2"), List.of(stored));
+        state.receive(dec("1"), dec("1"), T2);
+
+        state.issue(dec("3"));
+
+        assertThat(state.layers()).isEmpty();
+        assertThat(state.removedLayers()).containsExactly(stored);
+    }
+
+    @Test
+    void partlyIssuedStoredLayerIsMarkedChanged() {
+        ValuationState.CostLayer stored = new ValuationState.CostLayer(UUID.randomUUID(), T1, dec("4"), dec("1"), false);
+        ValuationState state = new ValuationState(dec("4"), dec("4"), List.of(stored));
+
+        state.issue(dec("1"));
+
+        assertThat(stored.isChanged()).isTrue();
+        assertThat(stored.getQuantity()).isEqualByComparingTo("3");
+        assertThat(state.removedLayers()).isEmpty();
+    }
+
+    @Test
+    void transferReceiptTakesOverTheIssuedValueAndKeepsReceiptTimes() {
+        ValuationState source = ValuationState.empty();
+        source.receive(dec("10"), dec("2"), T1);
+        source.receive(dec("10"), dec("4"), T3);
+        ValuationState target = ValuationState.empty();
+        target.receive(dec("1"), dec("5"), T2);
+
+        target.receiveTransfer(dec("15"), source.issue(dec("15")));
+
+        assertThat(target.quantity()).isEqualByComparingTo("16");
+        assertThat(target.averageValue()).isEqualByComparingTo("50");
+        assertThat(target.fifoValue()).isEqualByComparingTo("45");
+        assertThat(target.layers()).extracting(ValuationState.CostLayer::getReceivedAt).containsExactly(T1, T2, T3);
+    }
+
+    private static BigDecimal dec(String value) {
+        return new BigDecimal(value);
+    }
+}
@@ -1,10 +1,10 @@
 import { http } from './http';
-import type { Customer, CustomerRequest } from '../types';
+import type { CursorPage, Customer, CustomerRequest } from '../types';
 
 export const customerApi = {
     getAll: async () => {
-        const { data } = await http.get<Customer[]>('/customers');
-        return data;
+        const { data } = await http.get<CursorPage<Customer>>('/customers', { params: { limit: 200 } });
+        return data.items;
     },
     get: async (id: string) => {
         const { data } = await http.get<Customer>(`/customers/${id}`);
@@ -1,10 +1,10 @@
 import { http } from './http';
-import type { Demand, DemandRequest, DemandStatus } from '../types';
+import type { CursorPage, Demand, DemandRequest, DemandStatus } from '../types';
 
 export const demandApi = {
     getAll: async () => {
-        const { data } = await http.get<Demand[]>('/demands');
-        return data;
+        const { data } = await http.get<CursorPage<Demand>>('/demands', { params: { limit: 200 } });
+        return data.items;
     },
     get: async (id: string) => {
         const { data } = await http.get<Demand>(`/demands/${id}`);
@@ -14,9 +14,9 @@ export const demandApi = {
         const { data } = await http.post<Demand>('/demands', payload);
         return data;
     },
-    updateStatus: async (id: string, status: DemandStatus) => {
+    updateStatus: async (id: string, status: DemandStatus, version?: number) => {
         const { data } = await http.patch<Demand>(`/demands/${id}/status`, null, {
-            params: { status }
+            params: { status, version }
         });
         return data;
     }
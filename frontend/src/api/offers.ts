@@ -1,10 +1,10 @@
 import { http } from './http';
-import type { Offer, OfferRequest, OfferStatus } from '../types';
+import type { CursorPage, Offer, OfferRequest, OfferStatus } from '../types';
 
 export const offerApi = {
     getAll: async () => {
-        const { data } = await http.get<Offer[]>('/offers');
-        return data;
+        const { data } = await http.get<CursorPage<Offer>>('/offers', { params: { limit: 200 } });
+        return data.items;
     },
     get: async (id: string) => {
         const { data } = await http.get<Offer>(`/offers/${id}`);
@@ -14,9 +14,9 @@ export const offerApi = {
         const { data } = await http.post<Offer>('/offers', payload);
         return data;
     },
-    updateStatus: async (id: string, status: OfferStatus) => {
+    updateStatus: async (id: string, status: OfferStatus, version?: number) => {
         const { data } = await http.patch<Offer>(`/offers/${id}/status`, null, {
-            params: { status }
+            params: { status, version }
         });
         return data;
     }
@@ -1,13 +1,21 @@
 import { http } from './http';
-import type { Product, ProductRequest } from '../types';
+import type { CursorPage, Product, ProductRequest, ProductSearchHit, ProductSuggestion } from '../types';
 
 export const productApi = {
     getAll: async () => {
-        const { data } = await http.get<Product[]>('/products');
-        return data;
+        const { data } = await http.get<CursorPage<Product>>('/products', { params: { limit: 200 } });
+        return data.items;
     },
     create: async (payload: ProductRequest) => {
         const { data } = await http.post<Product>('/products', payload);
         return data;
+    },
+    search: async (q: string, limit = 20) => {
+        const { data } = await http.get<ProductSearchHit[]>('/products/search', { params: { q, limit } });
+        return data;
+    },
+    autocomplete: async (q: string, limit = 10) => {
+        const { data } = await http.get<ProductSuggestion[]>('/products/autocomplete', { params: { q, limit } });
+        return data;
     }
 };
@@ -1,5 +1,7 @@
 import { http } from './http';
-import type { StockSummary, StockMovementRequest, StockTransferRequest } from '../types';
+import type { CursorPage, StockChange, StockMovementResponse, StockSummary, StockMovementRequest, StockTransferRequest, StreamToken } from '../types';
+
+const STREAM_RETRY_MS = 5000;
 
 export const stockApi = {
     getOverview: async (warehouseId: string) => {
@@ -12,8 +14,53 @@ export const stockApi = {
     createTransfer: async (payload: StockTransferRequest) => {
         await http.post('/stock/transfers', payload);
     },
-    getHistory: async (productId: string) => {
-        const { data } = await http.get<import('../types').StockMovementResponse[]>(`/stock/movements?productId=${productId}`);
+    getHistory: async (productId: string, cursor?: string) => {
+        const { data } = await http.get<CursorPage<StockMovementResponse>>('/stock/movements', {
+            params: { productId, cursor }
+        });
         return data;
+    },
+    // EventSource cannot send the Authorization header, so each connect trades it for a short-lived stream token.
+    // A dropped stream is reopened with a fresh token. Returns a function that closes the stream.
+    subscribe: (
+        warehouseId: string,
+        handlers: { onSnapshot: (changes: StockChange[]) => void; onChange: (changes: StockChange[]) => void; onError?: () => void }
+    ) => {
+        let source: EventSource | null = null;
+        let retry: ReturnType<typeof setTimeout> | undefined;
+        let closed = false;
+
+        const connect = async () => {
+            try {
+                const { data } = await http.post<StreamToken>('/stock/stream-token');
+                if (closed) {
+                    return;
+                }
+                const params = new URLSearchParams({ warehouseId, access_token: data.token });
+                source = new EventSource(`${http.defaults.baseURL}/stock/stream?${params}`);
+                source.addEventListener('snapshot', (e) => handlers.onSnapshot(JSON.parse((e as MessageEvent).data)));
+                source.addEventListener('stock', (e) => handlers.onChange(JSON.parse((e as MessageEvent).data)));
+                source.onerror = () => {
+                    // The browser would retry with the same, by now expired, token
+                    source?.close();
+                    reconnect();
+                };
+            } catch {
+                reconnect();
+            }
+        };
+        const reconnect = () => {
+            handlers.onError?.();
+            if (!closed) {
+                retry = setTimeout(connect, STREAM_RETRY_MS);
+            }
+        };
+
+        connect();
+        return () => {
+            closed = true;
+            clearTimeout(retry);
+            source?.close();
+        };
     }
 };
@@ -1,10 +1,10 @@
 import { http } from './http';
-import type { Warehouse, WarehouseRequest } from '../types';
+import type { CursorPage, Warehouse, WarehouseRequest } from '../types';
 
 export const warehouseApi = {
     getAll: async () => {
-        const { data } = await http.get<Warehouse[]>('/warehouses');
-        return data;
+        const { data } = await http.get<CursorPage<Warehouse>>('/warehouses', { params: { limit: 200 } });
+        return data.items;
     },
     create: async (payload: WarehouseRequest) => {
         const { data } = await http.post<Warehouse>('/warehouses', payload);
@@ -118,6 +118,8 @@ const resources = {
                 totalCustomers: 'Total Customers',
                 pendingDemands: 'Pending Demands',
                 totalRevenue: 'Accepted Offers',
+                inventoryValue: 'Inventory Value',
+                degraded: 'Some sections could not be loaded in time and are shown incomplete.',
                 lowStock: 'Low Stock Alert (< 10)',
                 recentActivity: 'Recent Activity',
                 product: 'Product',
@@ -239,6 +241,8 @@ const resources = {
                 totalCustomers: 'Toplam Müşteri',
                 pendingDemands: 'Bekleyen Talepler',
                 totalRevenue: 'Kabul Edilen Teklifler',
+                inventoryValue: 'Stok Değeri',
+                degraded: 'Bazı bölümler zamanında yüklenemedi ve eksik gösteriliyor.',
                 lowStock: 'Kritik Stok Uyarısı (< 10)',
                 recentActivity: 'Son Aktiviteler',
                 product: 'Ürün',
@@ -1,21 +1,26 @@
 import React from 'react';
-import { Card, Col, Row, Table, List, Typography } from 'antd';
+import { Alert, Card, Col, Row, Table, List, Typography } from 'antd';
 import {
     ShoppingOutlined,
     TeamOutlined,
     FileTextOutlined,
     DollarOutlined,
+    DatabaseOutlined,
     AlertOutlined,
     RightOutlined
 } from '@ant-design/icons';
 import { useQuery } from '@tanstack/react-query';
 import { useTranslation } from 'react-i18next';
+import dayjs from 'dayjs';
 import { reportApi } from '../api/reports';
 import { StatCard } from '../components/StatCard';
 import { useNavigate } from 'react-router-dom';
 
 const { Title } = Typography;
 
+// Sections the server could not load in time come back as null
+const display = (value: number | null, format: (v: number) => string = String) => value === null ? '—' : format(value);
+
 export const DashboardPage: React.FC = () => {
     const { t } = useTranslation();
     const navigate = useNavigate();
@@ -56,39 +61,51 @@ export const DashboardPage: React.FC = () => {
                 <div style={{ color: '#8c8c8c' }}>Overview of your business performance</div>
             </div>
 
+            {data.degradedSections.length > 0 && (
+                <Alert type="warning" showIcon style={{ marginBottom: 24 }} message={t('dashboard.degraded')} />
+            )}
+
             <Row gutter={[24, 24]}>
-                <Col xs={24} sm={12} lg={6}>
+                <Col flex="1 1 220px">
                     <StatCard
                         title={t('dashboard.totalProducts')}
-                        value={data.totalProducts}
+                        value={display(data.totalProducts)}
                         icon={<ShoppingOutlined />}
                         color="#1890ff"
                     />
                 </Col>
-                <Col xs={24} sm={12} lg={6}>
+                <Col flex="1 1 220px">
                     <StatCard
                         title={t('dashboard.totalCustomers')}
-                        value={data.totalCustomers}
+                        value={display(data.totalCustomers)}
                         icon={<TeamOutlined />}
                         color="#52c41a"
                     />
                 </Col>
-                <Col xs={24} sm={12} lg={6}>
+                <Col flex="1 1 220px">
                     <StatCard
                         title={t('dashboard.pendingDemands')}
-                        value={data.pendingDemands}
+                        value={display(data.pendingDemands)}
                         icon={<FileTextOutlined />}
                         color="#faad14"
                     />
                 </Col>
-                <Col xs={24} sm={12} lg={6}>
+                <Col flex="1 1 220px">
                     <StatCard
                         title={t('dashboard.totalRevenue')}
-                        value={`$${data.totalAcceptedOfferValue.toLocaleString()}`}
+                        value={display(data.totalAcceptedOfferValue, v => `${v.toLocaleString()} ${data.baseCurrency}`)}
                         icon={<DollarOutlined />}
                         color="#722ed1"
                     />
                 </Col>
+                <Col flex="1 1 220px">
+                    <StatCard
+                        title={t('dashboard.inventoryValue')}
+                        value={display(data.inventoryValue, v => `$${v.toLocaleString()}`)}
+                        icon={<DatabaseOutlined />}
+                        color="#13c2c2"
+                    />
+                </Col>
             </Row>
 
             <Row gutter={[24, 24]} style={{ marginTop: 24 }}>
@@ -120,7 +137,7 @@ export const DashboardPage: React.FC = () => {
                                     <List.Item.Meta
                                         avatar={<div style={{ width: 8, height: 8, borderRadius: '50%', backgroundColor: '#1890ff', marginTop: 8 }} />}
                                         title={<span style={{ fontWeight: 500 }}>{item.description}</span>}
-                                        description={item.timestamp}
+                                        description={dayjs(item.timestamp).format('YYYY-MM-DD HH:mm')}
                                     />
                                 </List.Item>
                             )}
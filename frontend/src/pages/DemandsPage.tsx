@@ -42,7 +42,7 @@ export const DemandsPage: React.FC = () => {
     });
 
     const statusMutation = useMutation({
-        mutationFn: ({ id, status }: { id: string; status: DemandStatus }) => demandApi.updateStatus(id, status),
+        mutationFn: ({ id, version, status }: { id: string; version: number; status: DemandStatus }) => demandApi.updateStatus(id, status, version),
         onSuccess: () => {
             notifySuccess('Status updated');
             queryClient.invalidateQueries({ queryKey: ['demands'] });
@@ -62,8 +62,9 @@ export const DemandsPage: React.FC = () => {
         createMutation.mutate(payload);
     };
 
-    const handleStatusUpdate = (id: string, status: DemandStatus) => {
-        statusMutation.mutate({ id, status });
+    // The version makes a click on a stale row fail with 409 instead of overwriting a newer change
+    const handleStatusUpdate = (id: string, version: number, status: DemandStatus) => {
+        statusMutation.mutate({ id, version, status });
     };
 
     const columns = [
@@ -103,16 +104,16 @@ export const DemandsPage: React.FC = () => {
             render: (_: any, record: Demand) => (
                 <Space>
                     {record.status === 'DRAFT' && (
-                        <Popconfirm title="Submit for approval?" onConfirm={() => handleStatusUpdate(record.id, 'PENDING')}>
+                        <Popconfirm title="Submit for approval?" onConfirm={() => handleStatusUpdate(record.id, record.version, 'PENDING')}>
                             <Button size="small" type="primary">Submit</Button>
                         </Popconfirm>
                     )}
                     {record.status === 'PENDING' && (
                         <>
-                            <Popconfirm title="Approve demand?" onConfirm={() => handleStatusUpdate(record.id, 'PROCESSED')}>
+                            <Popconfirm title="Approve demand?" onConfirm={() => handleStatusUpdate(record.id, record.version, 'PROCESSED')}>
                                 <Button size="small" type="primary" icon={<CheckOutlined />} style={{ backgroundColor: 'green' }} />
                             </Popconfirm>
-                            <Popconfirm title="Reject demand?" onConfirm={() => handleStatusUpdate(record.id, 'CANCELLED')}>
+                            <Popconfirm title="Reject demand?" onConfirm={() => handleStatusUpdate(record.id, record.version, 'CANCELLED')}>
                                 <Button size="small" danger icon={<CloseOutlined />} />
                             </Popconfirm>
                         </>
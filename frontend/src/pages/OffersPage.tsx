@@ -71,7 +71,7 @@ export const OffersPage: React.FC = () => {
     }, [location.state, products, form]);
 
     const statusMutation = useMutation({
-        mutationFn: ({ id, status }: { id: string; status: OfferStatus }) => offerApi.updateStatus(id, status),
+        mutationFn: ({ id, version, status }: { id: string; version: number; status: OfferStatus }) => offerApi.updateStatus(id, status, version),
         onSuccess: () => {
             notifySuccess('Offer status updated');
             queryClient.invalidateQueries({ queryKey: ['offers'] });
@@ -123,8 +123,9 @@ export const OffersPage: React.FC = () => {
         }
     };
 
-    const handleStatusUpdate = (id: string, status: OfferStatus) => {
-        statusMutation.mutate({ id, status });
+    // The version makes a click on a stale row fail with 409 instead of overwriting a newer change
+    const handleStatusUpdate = (id: string, version: number, status: OfferStatus) => {
+        statusMutation.mutate({ id, version, status });
     };
 
     const columns = [
@@ -169,17 +170,17 @@ export const OffersPage: React.FC = () => {
                             size="small"
                             type="primary"
                             icon={<SendOutlined />}
-                            onClick={() => handleStatusUpdate(record.id, 'SENT')}
+                            onClick={() => handleStatusUpdate(record.id, record.version, 'SENT')}
                         >
                             Mark Sent
                         </Button>
                     )}
                     {record.status === 'SENT' && (
                         <>
-                            <Popconfirm title="Mark as Accepted?" onConfirm={() => handleStatusUpdate(record.id, 'ACCEPTED')}>
+                            <Popconfirm title="Mark as Accepted?" onConfirm={() => handleStatusUpdate(record.id, record.version, 'ACCEPTED')}>
                                 <Button size="small" type="primary" icon={<CheckOutlined />} style={{ backgroundColor: 'green' }} />
                             </Popconfirm>
-                            <Popconfirm title="Mark as Rejected?" onConfirm={() => handleStatusUpdate(record.id, 'REJECTED')}>
+                            <Popconfirm title="Mark as Rejected?" onConfirm={() => handleStatusUpdate(record.id, record.version, 'REJECTED')}>
                                 <Button size="small" danger icon={<CloseOutlined />} />
                             </Popconfirm>
                         </>
@@ -1,15 +1,16 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 import { Table, Select, Card, Alert, Button, Modal, Tag } from 'antd';
 import { HistoryOutlined } from '@ant-design/icons';
-import { useQuery } from '@tanstack/react-query';
+import { useQuery, useQueryClient } from '@tanstack/react-query';
 import { warehouseApi } from '../api/warehouses';
 import { stockApi } from '../api/stock';
 import { useTranslation } from 'react-i18next';
-import type { StockSummary } from '../types';
+import type { StockChange, StockSummary } from '../types';
 import dayjs from 'dayjs';
 
 export const StockPage: React.FC = () => {
     const { t } = useTranslation();
+    const queryClient = useQueryClient();
     const [selectedWarehouseId, setSelectedWarehouseId] = useState<string | null>(null);
     const [historyProductId, setHistoryProductId] = useState<string | null>(null);
     const [isHistoryVisible, setIsHistoryVisible] = useState(false);
@@ -22,10 +23,35 @@ export const StockPage: React.FC = () => {
     const { data: stock, isLoading } = useQuery({
         queryKey: ['stock', selectedWarehouseId],
         queryFn: () => stockApi.getOverview(selectedWarehouseId!),
-        enabled: !!selectedWarehouseId,
-        refetchInterval: 10000
+        enabled: !!selectedWarehouseId
     });
 
+    // Live balances: pushed quantities are written into the cached overview; products it does not list yet trigger a refetch
+    useEffect(() => {
+        if (!selectedWarehouseId) {
+            return;
+        }
+        const queryKey = ['stock', selectedWarehouseId];
+        const apply = (changes: StockChange[]) => {
+            const current = queryClient.getQueryData<StockSummary[]>(queryKey);
+            if (!current) {
+                return;
+            }
+            const quantities = new Map(changes.map(c => [c.productId, c.quantity]));
+            if (changes.some(c => !current.some(s => s.productId === c.productId))) {
+                queryClient.invalidateQueries({ queryKey });
+            }
+            queryClient.setQueryData<StockSummary[]>(queryKey, current.map(s =>
+                quantities.has(s.productId) ? { ...s, quantity: quantities.get(s.productId)! } : s));
+        };
+        return stockApi.subscribe(selectedWarehouseId, {
+            onSnapshot: apply,
+            onChange: apply,
+            // Changes pushed while disconnected are lost; reload once the stream is back
+            onError: () => queryClient.invalidateQueries({ queryKey })
+        });
+    }, [selectedWarehouseId, queryClient]);
+
     // Query for history, enabled only when modal is open and productId is set
     const { data: history, isLoading: isHistoryLoading } = useQuery({
         queryKey: ['stockHistory', historyProductId],
@@ -104,7 +130,7 @@ export const StockPage: React.FC = () => {
                 width={800}
             >
                 <Table
-                    dataSource={history}
+                    dataSource={history?.items}
                     columns={historyColumns}
                     rowKey="id"
                     loading={isHistoryLoading}
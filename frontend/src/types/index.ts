@@ -9,6 +9,22 @@ export interface Product {
     updatedAt: string;
 }
 
+export interface ProductSearchHit {
+    id: string;
+    sku: string;
+    name: string;
+    description: string;
+    unit: string;
+    unitPrice: number;
+    rank: number;
+}
+
+export interface ProductSuggestion {
+    id: string;
+    sku: string;
+    name: string;
+}
+
 export interface ProductRequest {
     sku: string;
     name: string;
@@ -46,6 +62,7 @@ export interface StockMovementRequest {
     warehouseId: string;
     type: StockMovementType;
     quantity: number;
+    unitCost?: number;
     note?: string;
 }
 
@@ -67,6 +84,11 @@ export interface StockMovementResponse {
     createdAt: string;
 }
 
+export interface CursorPage<T> {
+    items: T[];
+    nextCursor?: string;
+}
+
 export interface StockSummary {
     productId: string;
     productName: string;
@@ -74,6 +96,18 @@ export interface StockSummary {
     quantity: number;
 }
 
+// Pushed by /stock/stream: delta since the previous push, quantity is the balance after it
+export interface StockChange {
+    productId: string;
+    delta: number;
+    quantity: number;
+}
+
+export interface StreamToken {
+    token: string;
+    expiresAt: string;
+}
+
 export const CustomerType = {
     CUSTOMER: 'CUSTOMER',
     SUPPLIER: 'SUPPLIER',
@@ -153,7 +187,7 @@ export interface Demand {
     priority: Priority;
     dueDate: string;
     items: DemandItem[];
-    createdAt: string;
+    createdAt: string;    version: number;
 }
 
 export const OfferStatus = {
@@ -167,7 +201,7 @@ export type OfferStatus = typeof OfferStatus[keyof typeof OfferStatus];
 export interface OfferItemRequest {
     productId: string;
     quantity: number;
-    unitPrice: number;
+    unitPrice?: number; // omitted: priced from the customer's price lists
     discount?: number;
 }
 
@@ -201,7 +235,7 @@ export interface Offer {
     currency: string;
     validUntil: string;
     items: OfferItem[];
-    createdAt: string;
+    createdAt: string;    version: number;
 }
 
 // --- Dashboard Types ---
@@ -214,17 +248,24 @@ export interface LowStockItem {
 }
 
 export interface RecentActivity {
+    id: string;
+    type: string;
     description: string;
+    referenceId?: string;
     timestamp: string;
 }
 
 export interface DashboardData {
-    totalProducts: number;
-    totalCustomers: number;
-    pendingDemands: number;
-    totalAcceptedOfferValue: number;
+    totalProducts: number | null;
+    totalCustomers: number | null;
+    pendingDemands: number | null;
+    baseCurrency: string | null;
+    totalAcceptedOfferValue: number | null;
+    acceptedOfferValueByCurrency: Record<string, number>;
+    inventoryValue: number | null;
     lowStockItems: LowStockItem[];
     recentActivities: RecentActivity[];
+    degradedSections: string[];
 }
 
 export interface UserDTO {